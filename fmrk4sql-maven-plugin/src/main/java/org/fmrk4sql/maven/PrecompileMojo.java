@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Parse all sql templates during build.
+ * Fails the build on template syntax errors and writes index of templates
+ * to META-INF/fmrk4sql/templates.idx, so FtlRegistry warms templates up
+ * without classpath scanning. Index is written from scratch on every build, so it
+ * lists only templates of configured directories that exist now.
+ *
+ * @since 0.1.0
+ */
+@Mojo(name = "precompile", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public final class PrecompileMojo extends AbstractMojo {
+    /**
+     * Build output directory, where resources with templates are copied.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File output;
+
+    /**
+     * Templates directories relative to classpath root.
+     */
+    @Parameter(required = true)
+    private String[] paths;
+
+    /**
+     * Skip precompilation.
+     */
+    @Parameter(property = "fmrk4sql.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (this.skip) {
+            this.getLog().info("Templates precompilation is skipped");
+        } else {
+            try {
+                Files.deleteIfExists(this.output.toPath().resolve(Templates.LOCATION));
+                for (final String path : this.paths) {
+                    this.precompile(new Templates(this.output.toPath(), path), path);
+                }
+            } catch (final IOException ex) {
+                throw new MojoExecutionException("Can not precompile templates", ex);
+            }
+        }
+    }
+
+    /**
+     * Check and index templates of single directory.
+     * @param templates Templates
+     * @param path Templates directory
+     * @throws IOException When templates can not be read or index written
+     * @throws MojoFailureException When templates have syntax errors
+     */
+    private void precompile(final Templates templates, final String path)
+        throws IOException, MojoFailureException {
+        final Map<String, String> errors = templates.errors();
+        if (!errors.isEmpty()) {
+            for (final Map.Entry<String, String> error : errors.entrySet()) {
+                this.getLog().error(String.format("%s: %s", error.getKey(), error.getValue()));
+            }
+            throw new MojoFailureException(
+                String.format("%d templates in %s have syntax errors", errors.size(), path)
+            );
+        }
+        this.getLog().info(
+            String.format(
+                "%d templates in %s are indexed in %s",
+                templates.names().size(), path, templates.index()
+            )
+        );
+    }
+}
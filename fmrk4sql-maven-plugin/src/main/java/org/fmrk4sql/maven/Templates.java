@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.maven;
+
+import freemarker.cache.FileTemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.TemplateExceptionHandler;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Templates under directory of build output.
+ * Parses every template with the same settings as fmrk4sql FtlConfig does
+ * and writes index of templates, that FtlRegistry reads instead of classpath scanning.
+ *
+ * @since 0.1.0
+ */
+final class Templates {
+    /**
+     * Location of index inside build output, the same as FtlRegistry reads.
+     */
+    static final String LOCATION = "META-INF/fmrk4sql/templates.idx";
+
+    /**
+     * Build output directory, root of classpath.
+     */
+    private final Path root;
+
+    /**
+     * Templates directory relative to root.
+     */
+    private final String path;
+
+    Templates(final Path root, final String path) {
+        this.root = root;
+        this.path = Templates.trimmed(path);
+    }
+
+    /**
+     * Names of all templates relative to templates directory.
+     * @return Template names
+     * @throws IOException When directory can not be read
+     */
+    List<String> names() throws IOException {
+        final Path dir = this.root.resolve(this.path);
+        final List<String> result;
+        if (Files.isDirectory(dir)) {
+            try (Stream<Path> walk = Files.walk(dir)) {
+                result = walk.filter(Files::isRegularFile)
+                    .map(file -> dir.relativize(file).toString().replace('\\', '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+            }
+        } else {
+            result = Collections.emptyList();
+        }
+        return result;
+    }
+
+    /**
+     * Parse all templates.
+     * @return Syntax errors by template name, empty when all templates are valid
+     * @throws IOException When directory can not be read
+     */
+    Map<String, String> errors() throws IOException {
+        final Configuration cfg = new Configuration(Configuration.VERSION_2_3_32);
+        cfg.setDefaultEncoding("UTF-8");
+        cfg.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+        cfg.setLogTemplateExceptions(false);
+        cfg.setTemplateLoader(new FileTemplateLoader(this.root.resolve(this.path).toFile()));
+        final Map<String, String> result = new TreeMap<>();
+        for (final String name : this.names()) {
+            try {
+                cfg.getTemplate(name);
+            } catch (final IOException ex) {
+                result.put(name, ex.getMessage());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Write templates of directory to index in build output.
+     * Entries of this directory are replaced by templates found now, so templates
+     * deleted since previous build leave index. Entries of other directories stay.
+     * @return Index file
+     * @throws IOException When index can not be written
+     */
+    Path index() throws IOException {
+        final Path file = this.root.resolve(Templates.LOCATION);
+        Files.createDirectories(file.getParent());
+        final String prefix = String.join("", this.path, "/");
+        final List<String> lines = new ArrayList<>(16);
+        if (Files.exists(file)) {
+            for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.startsWith(prefix)) {
+                    lines.add(line);
+                }
+            }
+        }
+        for (final String name : this.names()) {
+            lines.add(String.join("", prefix, name));
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (final String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Path without leading and trailing slashes.
+     * @param path Path
+     * @return Trimmed path
+     */
+    private static String trimmed(final String path) {
+        String result = path;
+        while (result.startsWith("/")) {
+            result = result.substring(1);
+        }
+        while (result.endsWith("/")) {
+            result = result.substring(0, result.length() - 1);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.maven;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for Templates class.
+ * @since 0.1.0
+ */
+final class TemplatesTest {
+    /**
+     * Templates directory.
+     */
+    private static final String SQL = "sql";
+
+    @Test
+    void reportsSyntaxErrors(@TempDir final Path root) throws IOException {
+        Files.createDirectories(root.resolve(TemplatesTest.SQL));
+        Files.writeString(root.resolve("sql/valid.sql"), "select ${col} from foo");
+        Files.writeString(root.resolve("sql/invalid.sql"), "select <#if flag>col from foo");
+        Assertions.assertThat(new Templates(root, "/sql").errors())
+            .containsOnlyKeys("invalid.sql");
+    }
+
+    @Test
+    void writesIndex(@TempDir final Path root) throws IOException {
+        Files.createDirectories(root.resolve("sql/nested"));
+        Files.writeString(root.resolve("sql/first.sql"), "select count()");
+        Files.writeString(root.resolve("sql/nested/second.sql"), "select ${col} from foo");
+        new Templates(root, TemplatesTest.SQL).index();
+        Assertions.assertThat(
+            Files.readAllLines(new Templates(root, "sql/").index(), StandardCharsets.UTF_8)
+        ).containsExactly("sql/first.sql", "sql/nested/second.sql");
+    }
+
+    @Test
+    void dropsDeletedTemplatesFromIndex(@TempDir final Path root) throws IOException {
+        Files.createDirectories(root.resolve(TemplatesTest.SQL));
+        Files.createDirectories(root.resolve("other"));
+        Files.writeString(root.resolve("sql/kept.sql"), "select 1");
+        Files.writeString(root.resolve("sql/deleted.sql"), "select 2");
+        Files.writeString(root.resolve("other/foreign.sql"), "select 3");
+        new Templates(root, "other").index();
+        new Templates(root, TemplatesTest.SQL).index();
+        Files.delete(root.resolve("sql/deleted.sql"));
+        final Path index = new Templates(root, TemplatesTest.SQL).index();
+        Assertions.assertThat(Files.readAllLines(index, StandardCharsets.UTF_8))
+            .containsExactly("other/foreign.sql", "sql/kept.sql");
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Property accessors of java classes.
+ * Accessors of record components, or bean getters of other classes, are found
+ * by reflection once per class and kept as method handles of type (Object)Object,
+ * so reading property of object costs single handle invocation.
+ *
+ * @since 0.1.0
+ */
+final class Accessors {
+    /**
+     * Accessors by property name, per class.
+     */
+    private static final ClassValue<Map<String, MethodHandle>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(final Class<?> type) {
+            return Accessors.found(type);
+        }
+    };
+
+    /**
+     * Type of all accessors.
+     */
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Utility class.
+     */
+    private Accessors() {
+    }
+
+    /**
+     * Accessors of class.
+     * @param type Record or bean class
+     * @return Accessors by property name, in order of record components or property names
+     */
+    static Map<String, MethodHandle> handles(final Class<?> type) {
+        return Accessors.CACHE.get(type);
+    }
+
+    /**
+     * Find accessors of class by reflection.
+     * @param type Record or bean class
+     * @return Accessors by property name
+     */
+    private static Map<String, MethodHandle> found(final Class<?> type) {
+        final Map<String, MethodHandle> result = new LinkedHashMap<>(16);
+        if (type.isRecord()) {
+            for (final RecordComponent component : type.getRecordComponents()) {
+                result.put(component.getName(), Accessors.handle(component.getAccessor()));
+            }
+        } else {
+            for (final PropertyDescriptor property : Accessors.properties(type)) {
+                if (property.getReadMethod() != null) {
+                    result.put(property.getName(), Accessors.handle(property.getReadMethod()));
+                }
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Bean properties of class, without properties of {@link Object}.
+     * @param type Bean class
+     * @return Properties
+     */
+    private static PropertyDescriptor[] properties(final Class<?> type) {
+        try {
+            return Introspector.getBeanInfo(type, Object.class).getPropertyDescriptors();
+        } catch (final IntrospectionException ex) {
+            throw new IllegalArgumentException(
+                String.format("Can not find properties of %s", type.getName()), ex
+            );
+        }
+    }
+
+    /**
+     * Method handle of accessor.
+     * Accessors of non-public classes are made accessible first.
+     * @param method Accessor method
+     * @return Method handle of type (Object)Object
+     */
+    private static MethodHandle handle(final Method method) {
+        try {
+            method.trySetAccessible();
+            return MethodHandles.lookup().unreflect(method).asType(Accessors.GETTER);
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalArgumentException(
+                String.format("Can not read property by %s", method), ex
+            );
+        }
+    }
+}
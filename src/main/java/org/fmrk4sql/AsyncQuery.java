@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Query that parses template asynchronously.
+ * By default query is parsed on virtual thread per task, when runtime supports
+ * virtual threads, and on cached pool of daemon threads otherwise.
+ * Checked exceptions of origin query complete future exceptionally with
+ * {@link CompletionException}, which cause is the original exception.
+ *
+ * @since 0.1.0
+ */
+public final class AsyncQuery {
+    /**
+     * Default executor for all async queries.
+     */
+    private static final Executor DEFAULT = AsyncQuery.virtual();
+
+    /**
+     * Origin query.
+     */
+    private final Query origin;
+
+    /**
+     * Executor for parsing.
+     */
+    private final Executor executor;
+
+    public AsyncQuery(final Query origin) {
+        this(origin, AsyncQuery.DEFAULT);
+    }
+
+    public AsyncQuery(final Query origin, final Executor executor) {
+        this.origin = origin;
+        this.executor = executor;
+    }
+
+    /**
+     * Parse freemarker template asynchronously.
+     * @param params Freemarker template params
+     * @return Future query for target storage
+     */
+    public CompletableFuture<String> parse(final Params params) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return this.origin.parse(params);
+                } catch (final IOException | TemplateException ex) {
+                    throw new CompletionException(ex);
+                }
+            },
+            this.executor
+        );
+    }
+
+    /**
+     * Executor with virtual thread per task when runtime has it.
+     * @return Executor
+     */
+    private static ExecutorService virtual() {
+        ExecutorService result;
+        try {
+            result = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            result = Executors.newCachedThreadPool(
+                task -> {
+                    final Thread thread = new Thread(task, "fmrk4sql-async");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        }
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Batch of queries from one classpath template.
+ * Template is resolved once per batch and every params are rendered
+ * into reused {@link Buffers}. Output of every params is the same as output
+ * of {@link FtlQuery}. Params are rendered in caller thread by default,
+ * or in parallel on given executor, results are always in input order.
+ *
+ * @since 0.1.0
+ */
+public final class BatchQuery {
+    /**
+     * Templates configuration.
+     */
+    private final FtlConfig config;
+
+    /**
+     * Template name.
+     */
+    private final String name;
+
+    /**
+     * Executor for rendering.
+     */
+    private final ExecutorService executor;
+
+    public BatchQuery(final String path, final String name) {
+        this(new FtlConfig(path), name);
+    }
+
+    public BatchQuery(final FtlConfig config, final String name) {
+        this(config, name, MoreExecutors.newDirectExecutorService());
+    }
+
+    public BatchQuery(final FtlConfig config, final String name, final ExecutorService executor) {
+        this.config = config;
+        this.name = name;
+        this.executor = executor;
+    }
+
+    /**
+     * Parse template with every params.
+     * @param batch Params of every query
+     * @return Queries in order of params
+     * @throws IOException When template not found or can not be written
+     * @throws TemplateException When template can not be rendered with any params
+     */
+    public List<String> parse(final Iterable<? extends Params> batch)
+        throws IOException, TemplateException {
+        final Template template = this.config.template(this.name);
+        final List<Callable<String>> tasks = new ArrayList<>(16);
+        for (final Params params : batch) {
+            tasks.add(() -> FtlQuery.parse(template, params));
+        }
+        final List<String> result = new ArrayList<>(tasks.size());
+        try {
+            for (final Future<String> future : this.executor.invokeAll(tasks)) {
+                result.add(future.get());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw (InterruptedIOException) new InterruptedIOException(
+                "Batch rendering is interrupted"
+            ).initCause(ex);
+        } catch (final ExecutionException ex) {
+            BatchQuery.rethrow(ex.getCause());
+        }
+        return result;
+    }
+
+    /**
+     * Rethrow failure of single query.
+     * Errors and unchecked exceptions are rethrown as is, only other checked
+     * exceptions are wrapped.
+     * @param cause Failure
+     * @throws IOException When query can not be written
+     * @throws TemplateException When query can not be rendered
+     */
+    private static void rethrow(final Throwable cause) throws IOException, TemplateException {
+        if (cause instanceof IOException) {
+            throw (IOException) cause;
+        }
+        if (cause instanceof TemplateException) {
+            throw (TemplateException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.hash.HashCode;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import java.lang.invoke.MethodHandle;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Params of record components or bean properties of java object.
+ * Every component of record, or every property with getter of other object,
+ * is a param with the same name, properties with null values are missing params.
+ * Accessors are found once per class and invoked as method handles, so params
+ * of filter objects are built and read without reflection.
+ * Values get the same fmrk4sql values as {@link FmParam} constructors give them.
+ *
+ * @since 0.1.0
+ */
+public final class BeanParams implements Params {
+    /**
+     * Params of properties.
+     */
+    private final Params params;
+
+    public BeanParams(final Object bean) {
+        this(bean, Params.WRAPPER);
+    }
+
+    public BeanParams(final Object bean, final ObjectWrapper wrapper) {
+        this.params = BeanParams.properties(bean, wrapper);
+    }
+
+    @Override
+    public TemplateModel get(final String name) throws TemplateModelException {
+        return this.params.get(name);
+    }
+
+    @Override
+    public boolean isEmpty() throws TemplateModelException {
+        return this.params.isEmpty();
+    }
+
+    @Override
+    public Params with(final Param param) {
+        return this.params.with(param);
+    }
+
+    @Override
+    public HashCode fingerprint() {
+        return this.params.fingerprint();
+    }
+
+    @Override
+    public Collection<Param> list() {
+        return this.params.list();
+    }
+
+    @Override
+    public Param param(final String name) {
+        return this.params.param(name);
+    }
+
+    /**
+     * Params of properties of bean.
+     * @param bean Record or bean
+     * @param wrapper Wrapper over java object for freemarker parser
+     * @return Params
+     */
+    private static Params properties(final Object bean, final ObjectWrapper wrapper) {
+        final Map<String, MethodHandle> accessors = Accessors.handles(bean.getClass());
+        return new FieldParams(
+            accessors.keySet(), name -> BeanParams.read(accessors.get(name), bean), wrapper
+        );
+    }
+
+    /**
+     * Read property of bean.
+     * @param accessor Accessor of property
+     * @param bean Record or bean
+     * @return Property value
+     * @checkstyle IllegalCatchCheck (15 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private static Object read(final MethodHandle accessor, final Object bean) {
+        try {
+            return (Object) accessor.invokeExact(bean);
+        } catch (final Throwable ex) {
+            throw new IllegalStateException(
+                String.format("Can not read property of %s", bean.getClass().getName()), ex
+            );
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Channel that collects bytes into growing byte buffer.
+ * Allows to render query into heap or direct buffer and hand it
+ * to NIO client as is.
+ * Channel copies every written buffer into collected bytes, and buffer is copied
+ * again when it grows. Collected buffer is handed to caller, so channels are not pooled.
+ * Write to socket or file channel directly when that copy matters.
+ * Closed channel rejects writes with {@link ClosedChannelException}.
+ * Not thread-safe.
+ *
+ * @since 0.1.0
+ */
+public final class BufferChannel implements WritableByteChannel {
+    /**
+     * Allocate direct buffers or heap ones.
+     */
+    private final boolean direct;
+
+    /**
+     * Collected bytes.
+     */
+    private ByteBuffer collected;
+
+    /**
+     * Channel is open or not.
+     */
+    private boolean open;
+
+    public BufferChannel() {
+        this(8192, false);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Initial capacity in bytes
+     * @param direct Allocate direct buffers or heap ones
+     */
+    public BufferChannel(final int capacity, final boolean direct) {
+        this.direct = direct;
+        this.collected = this.allocate(capacity);
+        this.open = true;
+    }
+
+    @Override
+    public int write(final ByteBuffer src) throws ClosedChannelException {
+        if (!this.open) {
+            throw new ClosedChannelException();
+        }
+        final int count = src.remaining();
+        if (this.collected.remaining() < count) {
+            final ByteBuffer grown = this.allocate(
+                Math.max(this.collected.capacity() * 2, this.collected.position() + count)
+            );
+            this.collected.flip();
+            grown.put(this.collected);
+            this.collected = grown;
+        }
+        this.collected.put(src);
+        return count;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return this.open;
+    }
+
+    @Override
+    public void close() {
+        this.open = false;
+    }
+
+    /**
+     * Collected bytes.
+     * @return Buffer from zero position to the last written byte, sharing content
+     */
+    public ByteBuffer buffer() {
+        return this.collected.duplicate().flip();
+    }
+
+    /**
+     * Allocate buffer.
+     * @param capacity Capacity in bytes
+     * @return Empty buffer
+     */
+    private ByteBuffer allocate(final int capacity) {
+        final ByteBuffer result;
+        if (this.direct) {
+            result = ByteBuffer.allocateDirect(capacity);
+        } else {
+            result = ByteBuffer.allocate(capacity);
+        }
+        return result;
+    }
+}
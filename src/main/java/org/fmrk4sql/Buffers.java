@@ -0,0 +1,199 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reusable output buffers for rendering.
+ * Remembers exponentially weighted average of output size per template, so output
+ * builder is allocated with enough capacity and never grows during rendering.
+ * Builders are reused through bounded pool instead of thread locals, so memory
+ * stays bounded with any number of threads, including virtual ones.
+ * Thread-safe.
+ *
+ * @since 0.1.0
+ */
+public final class Buffers {
+    /**
+     * Buffers shared by all queries.
+     */
+    public static final Buffers SHARED = new Buffers(
+        Runtime.getRuntime().availableProcessors() * 2, 1 << 20
+    );
+
+    /**
+     * Capacity of output without estimate.
+     */
+    private static final int INITIAL = 1024;
+
+    /**
+     * Smoothing of average, new size has weight of 1/8.
+     */
+    private static final int SMOOTHING = 3;
+
+    /**
+     * Pool of idle builders.
+     */
+    private final BlockingQueue<StringBuilder> pool;
+
+    /**
+     * Maximal capacity of builder returned to pool.
+     */
+    private final int limit;
+
+    /**
+     * Average output size by template.
+     */
+    private final Cache<Object, AtomicInteger> sizes;
+
+    /**
+     * Ctor.
+     * @param capacity Maximal number of idle builders in pool
+     * @param limit Maximal capacity in chars of builder returned to pool
+     */
+    public Buffers(final int capacity, final int limit) {
+        this.pool = new ArrayBlockingQueue<>(capacity);
+        this.limit = limit;
+        this.sizes = CacheBuilder.newBuilder().weakKeys().build();
+    }
+
+    /**
+     * Render text with reused builder.
+     * @param key Template, which output size is remembered
+     * @param rendering Rendering into builder
+     * @return Rendered text
+     * @throws IOException When rendering fails
+     * @throws TemplateException When template can not be rendered
+     */
+    public String text(final Object key, final Rendering rendering)
+        throws IOException, TemplateException {
+        final AtomicInteger size = this.size(key);
+        final int expected = size.get();
+        final StringBuilder out = this.borrow(expected + (expected >> 2));
+        try {
+            rendering.render(out);
+            size.set(expected + ((out.length() - expected) >> Buffers.SMOOTHING));
+            return out.toString();
+        } finally {
+            this.release(out);
+        }
+    }
+
+    /**
+     * Render text with reused builder and write it to output.
+     * @param key Template, which output size is remembered
+     * @param rendering Rendering into builder
+     * @param out Output
+     * @throws IOException When rendering fails or output can not be written
+     * @throws TemplateException When template can not be rendered
+     */
+    public void write(final Object key, final Rendering rendering, final Writer out)
+        throws IOException, TemplateException {
+        final AtomicInteger size = this.size(key);
+        final int expected = size.get();
+        final StringBuilder buffer = this.borrow(expected + (expected >> 2));
+        try {
+            rendering.render(buffer);
+            size.set(expected + ((buffer.length() - expected) >> Buffers.SMOOTHING));
+            out.append(buffer);
+        } finally {
+            this.release(buffer);
+        }
+    }
+
+    /**
+     * Average output size of template.
+     * @param key Template
+     * @return Average size in chars
+     */
+    public int estimate(final Object key) {
+        return this.size(key).get();
+    }
+
+    /**
+     * Average output size holder of template.
+     * @param key Template
+     * @return Average size holder
+     */
+    private AtomicInteger size(final Object key) {
+        try {
+            return this.sizes.get(key, () -> new AtomicInteger(Buffers.INITIAL));
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Take empty builder from pool or create new one.
+     * @param capacity Expected output size
+     * @return Empty builder
+     */
+    private StringBuilder borrow(final int capacity) {
+        StringBuilder result = this.pool.poll();
+        if (result == null) {
+            result = new StringBuilder(capacity);
+        } else {
+            result.ensureCapacity(capacity);
+        }
+        return result;
+    }
+
+    /**
+     * Return builder to pool, unless pool is full or builder is too large.
+     * @param out Builder
+     */
+    private void release(final StringBuilder out) {
+        if (out.capacity() <= this.limit) {
+            out.setLength(0);
+            this.pool.offer(out);
+        }
+    }
+
+    /**
+     * Rendering into builder.
+     *
+     * @since 0.1.0
+     */
+    @FunctionalInterface
+    public interface Rendering {
+        /**
+         * Render text.
+         * @param out Output builder
+         * @throws IOException When rendering fails
+         * @throws TemplateException When template can not be rendered
+         */
+        void render(StringBuilder out) throws IOException, TemplateException;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import java.io.Writer;
+
+/**
+ * Writer into string builder.
+ * Unlike {@link java.io.StringWriter} it is not synchronized and does not copy
+ * builder content, so rendered text can be taken from builder as is.
+ * Not thread-safe.
+ *
+ * @since 0.1.0
+ */
+@SuppressWarnings("PMD.AvoidStringBufferField")
+public final class BuilderWriter extends Writer {
+    /**
+     * Output builder.
+     */
+    private final StringBuilder out;
+
+    public BuilderWriter(final StringBuilder out) {
+        super();
+        this.out = out;
+    }
+
+    @Override
+    public void write(final int chr) {
+        this.out.append((char) chr);
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) {
+        this.out.append(cbuf, off, len);
+    }
+
+    @Override
+    public void write(final String str) {
+        this.out.append(str);
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) {
+        this.out.append(str, off, off + len);
+    }
+
+    @Override
+    public Writer append(final CharSequence csq) {
+        this.out.append(csq);
+        return this;
+    }
+
+    @Override
+    public Writer append(final CharSequence csq, final int start, final int end) {
+        this.out.append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public Writer append(final char chr) {
+        this.out.append(chr);
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        // nothing to flush, text is already in builder
+    }
+
+    @Override
+    public void close() {
+        // nothing to close, builder stays usable
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Query that caches rendered SQL.
+ * Output is cached by origin query and {@link Params#fingerprint()}, so the same
+ * query with the same params is rendered once. Params without fingerprint are
+ * rendered every time and never cached. Queries of this library are equal
+ * when they render the same template, other queries are cached per instance.
+ * Cache is bounded by total length of cached SQL and may expire entries after write.
+ * Concurrent parse of the same query and params may render it twice,
+ * but only one output stays in cache.
+ *
+ * @since 0.1.0
+ */
+public final class CachedQuery implements Query {
+    /**
+     * Cache shared between all cached queries, up to 8M chars of SQL.
+     */
+    private static final Cache<Map.Entry<Query, HashCode>, String> SHARED =
+        CachedQuery.builder(8L * 1024L * 1024L).build();
+
+    /**
+     * Origin query.
+     */
+    private final Query origin;
+
+    /**
+     * Rendered SQL by query and params fingerprint.
+     */
+    private final Cache<Map.Entry<Query, HashCode>, String> cache;
+
+    public CachedQuery(final Query origin) {
+        this(origin, CachedQuery.SHARED);
+    }
+
+    public CachedQuery(final Query origin, final long weight) {
+        this(origin, CachedQuery.builder(weight).build());
+    }
+
+    public CachedQuery(final Query origin, final long weight, final Duration ttl) {
+        this(origin, weight, ttl, Ticker.systemTicker());
+    }
+
+    /**
+     * Ctor.
+     * @param origin Origin query
+     * @param weight Maximal total length of cached SQL
+     * @param ttl Time to keep SQL after it is rendered
+     * @param ticker Source of time for expiration
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public CachedQuery(
+        final Query origin, final long weight, final Duration ttl, final Ticker ticker
+    ) {
+        this(origin, CachedQuery.builder(weight).expireAfterWrite(ttl).ticker(ticker).build());
+    }
+
+    /**
+     * Ctor.
+     * Cache must be built with {@link CacheBuilder#recordStats()},
+     * otherwise {@link #stats()} stays empty.
+     * @param origin Origin query
+     * @param cache Rendered SQL by query and params fingerprint
+     */
+    public CachedQuery(
+        final Query origin, final Cache<Map.Entry<Query, HashCode>, String> cache
+    ) {
+        this.origin = origin;
+        this.cache = cache;
+    }
+
+    @Override
+    public String parse(final Params params) throws IOException, TemplateException {
+        final HashCode hash = params.fingerprint();
+        String result;
+        if (hash == null) {
+            result = this.origin.parse(params);
+        } else {
+            final Map.Entry<Query, HashCode> key = Map.entry(this.origin, hash);
+            result = this.cache.getIfPresent(key);
+            if (result == null) {
+                result = this.origin.parse(params);
+                this.cache.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Hit and miss statistics of cache.
+     * Params without fingerprint are rendered without cache and are not counted.
+     * @return Statistics, empty when injected cache does not record them
+     */
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    /**
+     * Builder of cache with statistics, weighted by length of SQL.
+     * @param weight Maximal total length of cached SQL
+     * @return Cache builder
+     */
+    private static CacheBuilder<Map.Entry<Query, HashCode>, String> builder(final long weight) {
+        return CacheBuilder.newBuilder()
+            .recordStats()
+            .maximumWeight(weight)
+            .weigher((Map.Entry<Query, HashCode> key, String sql) -> sql.length());
+    }
+}
@@ -26,12 +26,21 @@
 package org.fmrk4sql;
 
 import com.google.common.base.CaseFormat;
-import freemarker.template.DefaultObjectWrapper;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
 import freemarker.template.ObjectWrapper;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Decorator at Params with parameter names case formatting.
@@ -40,10 +49,20 @@ import java.util.List;
  * In that case CaseParams class can be used with
  * input = CaseFormat.LOWER_CAMEL
  * output = CaseFormat.LOWER_UNDERSCORE
+ * Names are converted once per instance into index of params by converted name,
+ * where the first param wins, the same as in {@link #list()}. Two origin names,
+ * like user_id and userId, may convert to the same name, so the index is built
+ * from all origin params instead of converting variable name back to input format.
+ * Conversions of names are memoized globally, as the same names come with every request.
  *
  * @since 0.1.0
  */
 public final class CaseParams implements Params {
+    /**
+     * Converted names by input and output formats.
+     */
+    private static final Map<CaseFormat, Map<CaseFormat, Cache<String, String>>> NAMES =
+        CaseParams.memo();
 
     /**
      * Link to decorated object.
@@ -52,7 +71,6 @@ public final class CaseParams implements Params {
 
     /**
      * Wrapper over java object for freemarker parser.
-     * Need to initialize one time and multiple use in get method.
      */
     private final ObjectWrapper wrapper;
 
@@ -68,28 +86,60 @@ public final class CaseParams implements Params {
      */
     private final CaseFormat output;
 
+    /**
+     * Wrapped models of params.
+     */
+    private final Models models;
+
+    /**
+     * Params by converted name, built once on first lookup.
+     */
+    private final Supplier<Map<String, Param>> index;
+
+    /**
+     * Renamed params, built once on first use.
+     */
+    private final Supplier<List<Param>> renamed;
+
+    /**
+     * Fingerprint of params, computed once on first use.
+     */
+    private final Supplier<HashCode> hash;
+
     public CaseParams(final Params origin, final CaseFormat input, final CaseFormat output) {
+        this(origin, input, output, Params.WRAPPER);
+    }
+
+    /**
+     * Ctor.
+     * @param origin Decorated params
+     * @param input Format of param names
+     * @param output Format of template variable names
+     * @param wrapper Wrapper over java object for freemarker parser
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public CaseParams(
+        final Params origin, final CaseFormat input, final CaseFormat output,
+        final ObjectWrapper wrapper
+    ) {
         this.origin = origin;
-        this.wrapper = new DefaultObjectWrapper(freemarker.template.Configuration.VERSION_2_3_32);
+        this.wrapper = wrapper;
         this.input = input;
         this.output = output;
+        this.models = new Models();
+        this.index = Suppliers.memoize(this::indexed);
+        this.renamed = Suppliers.memoize(this::converted);
+        this.hash = Suppliers.memoize(() -> new Fingerprint(this.list(), this.wrapper).value());
     }
 
     @Override
     public TemplateModel get(final String name) throws TemplateModelException {
-        return this.wrapper.wrap(this.param(name).value().val());
+        return this.models.model(name, this.param(name), this.wrapper);
     }
 
     @Override
     public Param param(final String name) {
-        Param result = null;
-        for (final Param param : this.origin.list()) {
-            if (name.equals(this.input.to(this.output, param.name()))) {
-                result = param;
-                break;
-            }
-        }
-        return result;
+        return this.index.get().get(name);
     }
 
     @Override
@@ -99,15 +149,83 @@ public final class CaseParams implements Params {
 
     @Override
     public Params with(final Param param) {
-        return new CaseParams(this.origin.with(param), this.input, this.output);
+        return new CaseParams(this.origin.with(param), this.input, this.output, this.wrapper);
+    }
+
+    @Override
+    public HashCode fingerprint() {
+        return this.hash.get();
     }
 
     @Override
     public List<Param> list() {
-        final List<Param> result = new ArrayList<>(this.origin.list().size());
+        return this.renamed.get();
+    }
+
+    /**
+     * Index of params by converted name, where the first param with name wins.
+     * @return Params by converted name
+     */
+    private Map<String, Param> indexed() {
+        final Map<String, Param> result = new HashMap<>(16);
+        for (final Param param : this.origin.list()) {
+            result.putIfAbsent(this.name(param), param);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Params renamed to output format.
+     * @return Renamed params
+     */
+    private List<Param> converted() {
+        final ImmutableList.Builder<Param> result = ImmutableList.builder();
         for (final Param param : this.origin.list()) {
-            result.add(param.rename(this.input.to(this.output, param.name())));
+            result.add(param.rename(this.name(param)));
+        }
+        return result.build();
+    }
+
+    /**
+     * Param name in output format from global memo.
+     * @param param Param
+     * @return Converted name
+     */
+    private String name(final Param param) {
+        return CaseParams.convert(this.input, this.output, param.name());
+    }
+
+    /**
+     * Name converted between formats from global memo.
+     * @param from Format of name
+     * @param target Format to convert name to
+     * @param name Name
+     * @return Converted name
+     */
+    private static String convert(
+        final CaseFormat from, final CaseFormat target, final String name
+    ) {
+        try {
+            return CaseParams.NAMES.get(from).get(target).get(name, () -> from.to(target, name));
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Bounded memo of conversions for every pair of formats.
+     * @return Memo by input and output formats
+     */
+    private static Map<CaseFormat, Map<CaseFormat, Cache<String, String>>> memo() {
+        final Map<CaseFormat, Map<CaseFormat, Cache<String, String>>> result =
+            new EnumMap<>(CaseFormat.class);
+        for (final CaseFormat input : CaseFormat.values()) {
+            final Map<CaseFormat, Cache<String, String>> outputs = new EnumMap<>(CaseFormat.class);
+            for (final CaseFormat output : CaseFormat.values()) {
+                outputs.put(output, CacheBuilder.newBuilder().maximumSize(4096L).build());
+            }
+            result.put(input, Collections.unmodifiableMap(outputs));
         }
-        return result;
+        return Collections.unmodifiableMap(result);
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Params of named fields of java object.
+ * Field is read only when template or caller asks for it, fields with null
+ * values are missing params. Common part of {@link MapParams} and {@link BeanParams}.
+ *
+ * @since 0.1.0
+ */
+final class FieldParams implements Params {
+    /**
+     * Field names in order of params.
+     */
+    private final Collection<String> names;
+
+    /**
+     * Field value by name.
+     */
+    private final Function<String, Object> field;
+
+    /**
+     * Wrapper over java object for freemarker parser.
+     */
+    private final ObjectWrapper wrapper;
+
+    /**
+     * Wrapped models of params.
+     */
+    private final Models models;
+
+    /**
+     * All params, built once on first use.
+     */
+    private final Supplier<List<Param>> params;
+
+    /**
+     * Fingerprint of params, computed once on first use.
+     */
+    private final Supplier<HashCode> hash;
+
+    /**
+     * Ctor.
+     * @param names Field names in order of params
+     * @param field Field value by name
+     * @param wrapper Wrapper over java object for freemarker parser
+     */
+    FieldParams(
+        final Collection<String> names, final Function<String, Object> field,
+        final ObjectWrapper wrapper
+    ) {
+        this.names = names;
+        this.field = field;
+        this.wrapper = wrapper;
+        this.models = new Models();
+        this.params = Suppliers.memoize(this::fields);
+        this.hash = Suppliers.memoize(() -> new Fingerprint(this.list(), this.wrapper).value());
+    }
+
+    @Override
+    public TemplateModel get(final String name) throws TemplateModelException {
+        final Param param = this.param(name);
+        TemplateModel result = null;
+        if (param != null) {
+            result = this.models.model(name, param, this.wrapper);
+        }
+        return result;
+    }
+
+    @Override
+    public Param param(final String name) {
+        Object value = null;
+        if (this.names.contains(name)) {
+            value = this.field.apply(name);
+        }
+        Param result = null;
+        if (value != null) {
+            result = new FmParam(name, Values.value(value));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.params.get().isEmpty();
+    }
+
+    @Override
+    public Params with(final Param param) {
+        return new ScopeParams(this, ImmutableList.of(param), this.wrapper);
+    }
+
+    @Override
+    public HashCode fingerprint() {
+        return this.hash.get();
+    }
+
+    @Override
+    public List<Param> list() {
+        return this.params.get();
+    }
+
+    /**
+     * Params of all fields with values.
+     * @return Immutable params
+     */
+    private List<Param> fields() {
+        final ImmutableList.Builder<Param> result = ImmutableList.builder();
+        for (final String name : this.names) {
+            final Param param = this.param(name);
+            if (param != null) {
+                result.add(param);
+            }
+        }
+        return result.build();
+    }
+}
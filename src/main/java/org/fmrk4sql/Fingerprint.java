@@ -0,0 +1,397 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import freemarker.template.ObjectWrapper;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.fmrk4sql.fake.FakeOrder;
+import org.fmrk4sql.val.BoolVal;
+import org.fmrk4sql.val.DblVal;
+import org.fmrk4sql.val.IntVal;
+import org.fmrk4sql.val.IterableVal;
+import org.fmrk4sql.val.LazyVal;
+import org.fmrk4sql.val.LdVal;
+import org.fmrk4sql.val.LdtVal;
+import org.fmrk4sql.val.LongVal;
+import org.fmrk4sql.val.NullVal;
+import org.fmrk4sql.val.ObjVal;
+import org.fmrk4sql.val.StrVal;
+
+/**
+ * Fingerprint of params, 128 bits long.
+ * Params are hashed in list order, every param by name, class of value and content
+ * of value, without building strings, together with identity of wrapper that gives
+ * values to template. Primitive values are hashed without boxing, immutable lists
+ * and maps of Guava and JDK are hashed by elements, so any of them with the same
+ * elements gives the same fingerprint. Values that can not give content, like null
+ * values, are hashed by class only.
+ * Only values of known immutable classes are hashed, as their content defines
+ * rendered SQL exactly, and fingerprint of params is computed once. Params with
+ * mutable lists, maps or dates, with orders of unknown classes, with custom values,
+ * or with lazy values not computed yet have no fingerprint, so lazy values are
+ * never computed for fingerprint and such params are never served stale SQL.
+ *
+ * @since 0.1.0
+ */
+@SuppressWarnings("PMD.CouplingBetweenObjects")
+final class Fingerprint {
+    /**
+     * Hash function of fingerprints.
+     */
+    private static final HashFunction MURMUR = Hashing.murmur3_128();
+
+    /**
+     * Value classes, whose content is hashed.
+     */
+    private static final Set<Class<?>> VALUES = Set.of(
+        StrVal.class, BoolVal.class, LdVal.class, LdtVal.class, ObjVal.class,
+        IterableVal.class, LazyVal.class
+    );
+
+    /**
+     * Value classes of primitive numbers.
+     */
+    private static final Set<Class<?>> NUMBERS = Set.of(
+        IntVal.class, LongVal.class, DblVal.class
+    );
+
+    /**
+     * Immutable JDK collections, which classes are not public.
+     */
+    private static final Set<Class<?>> COLLECTIONS = ImmutableSet.of(
+        List.of().getClass(), List.of(0).getClass(), Set.of().getClass(),
+        Set.of(0).getClass(), Map.of().getClass(), Map.of(0, 0).getClass(),
+        Collections.emptyList().getClass(), Collections.emptySet().getClass(),
+        Collections.emptyMap().getClass()
+    );
+
+    /**
+     * Immutable orders.
+     */
+    private static final Set<Class<?>> ORDERS = Set.of(SpringOrder.class, FakeOrder.class);
+
+    /**
+     * Immutable classes, whose objects are hashed by string representation.
+     */
+    private static final Set<Class<?>> SCALARS = Set.of(
+        Integer.class, Long.class, Double.class, Float.class, Short.class, Byte.class,
+        BigDecimal.class, BigInteger.class, Boolean.class, Character.class, UUID.class,
+        LocalDate.class, LocalDateTime.class, LocalTime.class, Instant.class,
+        OffsetDateTime.class, ZonedDateTime.class, Duration.class
+    );
+
+    /**
+     * Unique ids of wrappers, wrappers are compared by identity.
+     */
+    private static final Cache<ObjectWrapper, Long> WRAPPERS = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build();
+
+    /**
+     * Last id of wrapper.
+     */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    /**
+     * Tag of null object.
+     */
+    private static final byte NULL = 0;
+
+    /**
+     * Tag of iterable object.
+     */
+    private static final byte LIST = 1;
+
+    /**
+     * Tag of map.
+     */
+    private static final byte MAP = 2;
+
+    /**
+     * Tag of order.
+     */
+    private static final byte ORDER = 3;
+
+    /**
+     * Tag of string.
+     */
+    private static final byte TEXT = 4;
+
+    /**
+     * Tag of other immutable object.
+     */
+    private static final byte OTHER = 6;
+
+    /**
+     * Tag of value without content.
+     */
+    private static final byte ABSENT = 7;
+
+    /**
+     * Tag of enum constant.
+     */
+    private static final byte ENUM = 8;
+
+    /**
+     * Params.
+     */
+    private final Iterable<? extends Param> params;
+
+    /**
+     * Wrapper that gives param values to template.
+     */
+    private final ObjectWrapper wrapper;
+
+    Fingerprint(final Iterable<? extends Param> params) {
+        this(params, Params.WRAPPER);
+    }
+
+    Fingerprint(final Iterable<? extends Param> params, final ObjectWrapper wrapper) {
+        this.params = params;
+        this.wrapper = wrapper;
+    }
+
+    /**
+     * Fingerprint of params.
+     * @return Hash code, 128 bits long, or null when params can not be hashed exactly
+     */
+    HashCode value() {
+        final Hasher hasher = Fingerprint.MURMUR.newHasher();
+        hasher.putLong(Fingerprint.identity(this.wrapper));
+        final Iterator<? extends Param> iter = this.params.iterator();
+        boolean exact = true;
+        int count = 0;
+        while (exact && iter.hasNext()) {
+            final Param param = iter.next();
+            Fingerprint.chars(hasher, param.name());
+            exact = Fingerprint.value(hasher, param.value());
+            count += 1;
+        }
+        HashCode result = null;
+        if (exact) {
+            result = hasher.putInt(count).hash();
+        }
+        return result;
+    }
+
+    /**
+     * Hash value by class and content.
+     * Only known values give content, and their failures are not swallowed.
+     * @param hasher Hasher
+     * @param value Value
+     * @return True when value is hashed exactly
+     */
+    private static boolean value(final Hasher hasher, final Value<?, ?> value) {
+        Fingerprint.chars(hasher, value.getClass().getName());
+        boolean result = true;
+        if (value instanceof NullVal) {
+            hasher.putByte(Fingerprint.ABSENT);
+        } else if (Fingerprint.NUMBERS.contains(value.getClass())) {
+            Fingerprint.number(hasher, value);
+        } else if (!Fingerprint.VALUES.contains(value.getClass())
+            || value instanceof LazyVal && !((LazyVal<?>) value).computed()) {
+            result = false;
+        } else {
+            final Optional<?> content = Fingerprint.content(value);
+            if (content.isPresent()) {
+                result = Fingerprint.object(hasher, content.get());
+            } else {
+                hasher.putByte(Fingerprint.ABSENT);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Hash primitive number without boxing.
+     * @param hasher Hasher
+     * @param value Number value
+     */
+    private static void number(final Hasher hasher, final Value<?, ?> value) {
+        try {
+            if (value instanceof IntVal) {
+                hasher.putInt(((IntVal) value).asInt());
+            } else if (value instanceof LongVal) {
+                hasher.putLong(((LongVal) value).asLong());
+            } else {
+                hasher.putDouble(((DblVal) value).asDouble());
+            }
+        } catch (final IllegalArgumentException ex) {
+            hasher.putByte(Fingerprint.ABSENT);
+        }
+    }
+
+    /**
+     * Content of known value.
+     * Known values never give null, they throw when they have no content.
+     * @param value Value
+     * @return Content or empty when value has no content
+     */
+    private static Optional<?> content(final Value<?, ?> value) {
+        Optional<?> result;
+        try {
+            result = Optional.of(value.val());
+        } catch (final IllegalArgumentException ex) {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * Hash java object by content.
+     * @param hasher Hasher
+     * @param obj Object
+     * @return True when object is hashed exactly
+     * @checkstyle CyclomaticComplexityCheck (40 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static boolean object(final Hasher hasher, final Object obj) {
+        boolean result = true;
+        if (obj == null) {
+            hasher.putByte(Fingerprint.NULL);
+        } else if (obj instanceof Value) {
+            result = Fingerprint.value(hasher, (Value<?, ?>) obj);
+        } else if (obj instanceof String) {
+            hasher.putByte(Fingerprint.TEXT);
+            Fingerprint.chars(hasher, (String) obj);
+        } else if (obj instanceof Iterable && Fingerprint.immutable(obj)) {
+            result = Fingerprint.elements(hasher, (Iterable<?>) obj);
+        } else if (obj instanceof Map && Fingerprint.immutable(obj)) {
+            result = Fingerprint.entries(hasher, (Map<?, ?>) obj);
+        } else if (Fingerprint.ORDERS.contains(obj.getClass())) {
+            hasher.putByte(Fingerprint.ORDER);
+            Fingerprint.chars(hasher, ((Orderable) obj).col());
+            Fingerprint.chars(hasher, ((Orderable) obj).direction());
+        } else if (obj instanceof Enum) {
+            hasher.putByte(Fingerprint.ENUM);
+            Fingerprint.chars(hasher, ((Enum<?>) obj).getDeclaringClass().getName());
+            Fingerprint.chars(hasher, ((Enum<?>) obj).name());
+        } else if (Fingerprint.SCALARS.contains(obj.getClass())) {
+            hasher.putByte(Fingerprint.OTHER);
+            Fingerprint.chars(hasher, obj.getClass().getName());
+            Fingerprint.chars(hasher, obj.toString());
+        } else {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Immutable collection or not.
+     * @param obj List, set or map
+     * @return True for immutable collections of Guava and JDK
+     */
+    private static boolean immutable(final Object obj) {
+        return obj instanceof ImmutableCollection || obj instanceof ImmutableMap
+            || Fingerprint.COLLECTIONS.contains(obj.getClass());
+    }
+
+    /**
+     * Hash elements of iterable.
+     * @param hasher Hasher
+     * @param list Iterable
+     * @return True when all elements are hashed exactly
+     */
+    private static boolean elements(final Hasher hasher, final Iterable<?> list) {
+        hasher.putByte(Fingerprint.LIST);
+        final Iterator<?> iter = list.iterator();
+        boolean result = true;
+        int count = 0;
+        while (result && iter.hasNext()) {
+            result = Fingerprint.object(hasher, iter.next());
+            count += 1;
+        }
+        hasher.putInt(count);
+        return result;
+    }
+
+    /**
+     * Hash entries of map in iteration order.
+     * @param hasher Hasher
+     * @param map Map
+     * @return True when all entries are hashed exactly
+     */
+    private static boolean entries(final Hasher hasher, final Map<?, ?> map) {
+        hasher.putByte(Fingerprint.MAP);
+        final Iterator<? extends Map.Entry<?, ?>> iter = map.entrySet().iterator();
+        boolean result = true;
+        while (result && iter.hasNext()) {
+            final Map.Entry<?, ?> entry = iter.next();
+            result = Fingerprint.object(hasher, entry.getKey())
+                && Fingerprint.object(hasher, entry.getValue());
+        }
+        hasher.putInt(map.size());
+        return result;
+    }
+
+    /**
+     * Hash text with length, so adjacent texts can not be confused.
+     * @param hasher Hasher
+     * @param text Text
+     */
+    private static void chars(final Hasher hasher, final CharSequence text) {
+        hasher.putInt(text.length()).putUnencodedChars(text);
+    }
+
+    /**
+     * Unique id of wrapper.
+     * @param wrapper Wrapper
+     * @return Id, the same for the same wrapper instance
+     */
+    private static long identity(final ObjectWrapper wrapper) {
+        try {
+            return Fingerprint.WRAPPERS.get(wrapper, Fingerprint.LAST::incrementAndGet);
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
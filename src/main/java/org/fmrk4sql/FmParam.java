@@ -30,6 +30,7 @@ import java.time.LocalDateTime;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.ToString;
+import org.fmrk4sql.val.BoolVal;
 import org.fmrk4sql.val.DblVal;
 import org.fmrk4sql.val.IntVal;
 import org.fmrk4sql.val.JdVal;
@@ -41,7 +42,8 @@ import org.fmrk4sql.val.StrVal;
 
 /**
  * Freemarker template parameter.
- * Contains name and value of parameter
+ * Contains name and value of parameter.
+ * Char, short, byte and float values are kept as objects, the same as their boxed types.
  * @since 0.1.0
  */
 @EqualsAndHashCode
@@ -78,6 +80,42 @@ public class FmParam implements Param {
         this(name, new DblVal(val));
     }
 
+    public FmParam(final String name, final long val) {
+        this(name, new LongVal(val));
+    }
+
+    public FmParam(final String name, final int val) {
+        this(name, new IntVal(val));
+    }
+
+    public FmParam(final String name, final double val) {
+        this(name, new DblVal(val));
+    }
+
+    public FmParam(final String name, final Boolean val) {
+        this(name, new BoolVal(val));
+    }
+
+    public FmParam(final String name, final boolean val) {
+        this(name, new BoolVal(val));
+    }
+
+    public FmParam(final String name, final char val) {
+        this(name, new ObjVal(val));
+    }
+
+    public FmParam(final String name, final short val) {
+        this(name, new ObjVal(val));
+    }
+
+    public FmParam(final String name, final byte val) {
+        this(name, new ObjVal(val));
+    }
+
+    public FmParam(final String name, final float val) {
+        this(name, new ObjVal(val));
+    }
+
     public FmParam(final String name, final Object val) {
         this(name, new ObjVal(val));
     }
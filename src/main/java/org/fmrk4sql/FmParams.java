@@ -25,22 +25,28 @@
 
 package org.fmrk4sql;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
-import freemarker.template.DefaultObjectWrapper;
+import com.google.common.hash.HashCode;
 import freemarker.template.ObjectWrapper;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 
 /**
  * All freemarker template's parameters.
  * Need for base freemarker functionality inside fmrk4sql, when we are able to combine
- * different terms or fully sql bodies in single template file
+ * different terms or fully sql bodies in single template file.
+ * Params are indexed by name on first lookup, so freemarker gets every variable
+ * in constant time. When names repeat, the first param wins.
+ * Adding param shares all existing params with new instance, so it takes constant time
  *
  * @since 0.1.0
  */
@@ -51,18 +57,40 @@ public final class FmParams implements Params {
      */
     public static final FmParams EMPTY = new FmParams(Collections.EMPTY_LIST);
 
+    /**
+     * Store params for freemarker template parse.
+     */
+    private final Iterable<Param> params;
+
     /**
      * Wrapper over java object for freemarker parser.
-     * Need to initialize one time and multiple use in get method.
      */
-    private static final ObjectWrapper WRAPPER = new DefaultObjectWrapper(
-        freemarker.template.Configuration.VERSION_2_3_32
-    );
+    @EqualsAndHashCode.Exclude
+    private final ObjectWrapper wrapper;
 
     /**
-     * Store params for freemarker template parse.
+     * Params by name, built once on first lookup.
      */
-    private final Iterable<Param> params;
+    @EqualsAndHashCode.Exclude
+    private final Supplier<Map<String, Param>> index;
+
+    /**
+     * Immutable copy of params, built once on first use.
+     */
+    @EqualsAndHashCode.Exclude
+    private final Supplier<List<Param>> copy;
+
+    /**
+     * Wrapped models of params.
+     */
+    @EqualsAndHashCode.Exclude
+    private final Models models;
+
+    /**
+     * Fingerprint of params, computed once on first use.
+     */
+    @EqualsAndHashCode.Exclude
+    private final Supplier<HashCode> hash;
 
     public FmParams() {
         this(new ArrayList<>(0));
@@ -73,24 +101,26 @@ public final class FmParams implements Params {
     }
 
     public FmParams(final Iterable<Param> params) {
+        this(Params.WRAPPER, params);
+    }
+
+    public FmParams(final ObjectWrapper wrapper, final Iterable<Param> params) {
         this.params = params;
+        this.wrapper = wrapper;
+        this.index = Suppliers.memoize(this::indexed);
+        this.copy = Suppliers.memoize(() -> ImmutableList.copyOf(this.params));
+        this.models = new Models();
+        this.hash = Suppliers.memoize(() -> new Fingerprint(this.list(), this.wrapper).value());
     }
 
     @Override
     public TemplateModel get(final String name) throws TemplateModelException {
-        return FmParams.WRAPPER.wrap(this.param(name).value().val());
+        return this.models.model(name, this.param(name), this.wrapper);
     }
 
     @Override
     public Param param(final String name) {
-        Param result = null;
-        for (final Param param : this.params) {
-            if (name.equals(param.name())) {
-                result = param;
-                break;
-            }
-        }
-        return result;
+        return this.index.get().get(name);
     }
 
     @Override
@@ -100,16 +130,28 @@ public final class FmParams implements Params {
 
     @Override
     public Params with(final Param param) {
-        final Collection<Param> items = new ArrayList<>(this.list().size());
-        for (final Param item : this.params) {
-            items.add(item);
-        }
-        items.add(param);
-        return new FmParams(items);
+        return new FmParams(this.wrapper, new Layers(this.params, param));
+    }
+
+    @Override
+    public HashCode fingerprint() {
+        return this.hash.get();
     }
 
     @Override
     public List<Param> list() {
-        return ImmutableList.copyOf(this.params);
+        return this.copy.get();
+    }
+
+    /**
+     * Index of params by name, where the first param with name wins.
+     * @return Params by name
+     */
+    private Map<String, Param> indexed() {
+        final Map<String, Param> result = new HashMap<>(16);
+        for (final Param param : this.params) {
+            result.putIfAbsent(param.name(), param);
+        }
+        return Collections.unmodifiableMap(result);
     }
 }
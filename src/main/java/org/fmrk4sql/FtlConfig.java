@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import freemarker.cache.ClassTemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateExceptionHandler;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Freemarker configuration for templates in classpath (resources dir).
+ * Configuration is created once per template path and shared between all
+ * instances, so freemarker's template cache survives between parse calls
+ * and repeated renders do not read and parse template from classpath again.
+ * Loaded templates are kept in bounded cache in front of freemarker's cache,
+ * so after first load template lookup takes no monitor locks and never pins
+ * virtual threads, and templates of many paths do not grow heap without limit.
+ *
+ * @since 0.1.0
+ */
+@EqualsAndHashCode
+public final class FtlConfig {
+    /**
+     * Configurations shared by class and templates path.
+     * Keyed by class itself, so same-named classes of different class loaders
+     * load templates each through its own loader.
+     */
+    private static final ClassValue<ConcurrentMap<String, Configuration>> SHARED =
+        new ClassValue<>() {
+            @Override
+            protected ConcurrentMap<String, Configuration> computeValue(final Class<?> type) {
+                return new ConcurrentHashMap<>(4);
+            }
+        };
+
+    /**
+     * Templates loaded by configuration and name.
+     */
+    private static final Cache<Map.Entry<Configuration, String>, Template> TEMPLATES =
+        CacheBuilder.newBuilder()
+            .maximumSize(1024L)
+            .build();
+
+    /**
+     * Class for loading templates from classpath.
+     */
+    private final Class<?> base;
+
+    /**
+     * Templates path.
+     */
+    private final String path;
+
+    public FtlConfig(final String path) {
+        this(FtlConfig.class, path);
+    }
+
+    public FtlConfig(final Class<?> base, final String path) {
+        this.base = base;
+        this.path = path;
+    }
+
+    /**
+     * Compiled template by name.
+     * Template evicted from bounded cache is loaded again from freemarker cache.
+     * @param name Template name
+     * @return Template
+     * @throws IOException When template not found or has syntax errors
+     */
+    public Template template(final String name) throws IOException {
+        final Configuration cfg = this.configuration();
+        final Map.Entry<Configuration, String> key = Map.entry(cfg, name);
+        Template result = FtlConfig.TEMPLATES.getIfPresent(key);
+        if (result == null) {
+            result = cfg.getTemplate(name);
+            FtlConfig.TEMPLATES.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Shared freemarker configuration for this path.
+     * @return Configuration
+     */
+    private Configuration configuration() {
+        final ConcurrentMap<String, Configuration> paths = FtlConfig.SHARED.get(this.base);
+        Configuration result = paths.get(this.path);
+        if (result == null) {
+            final Configuration created = this.created();
+            result = paths.putIfAbsent(this.path, created);
+            if (result == null) {
+                result = created;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * New freemarker configuration.
+     * Classpath templates do not change at runtime, so template cache
+     * never checks them for update.
+     * @return Configuration
+     */
+    private Configuration created() {
+        final Configuration cfg = new Configuration(Configuration.VERSION_2_3_32);
+        cfg.setDefaultEncoding("UTF-8");
+        cfg.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+        cfg.setLogTemplateExceptions(false);
+        cfg.setWrapUncheckedExceptions(true);
+        cfg.setFallbackOnNullLoopVariable(false);
+        cfg.unsetLocale();
+        cfg.setSQLDateAndTimeTimeZone(TimeZone.getDefault());
+        cfg.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
+        cfg.setTemplateLoader(new ClassTemplateLoader(this.base, this.path));
+        return cfg;
+    }
+}
@@ -25,22 +25,25 @@
 
 package org.fmrk4sql;
 
-import freemarker.cache.ClassTemplateLoader;
-import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
-import freemarker.template.TemplateExceptionHandler;
 import java.io.IOException;
-import java.io.StringWriter;
-import java.util.TimeZone;
+import java.io.Writer;
+import lombok.EqualsAndHashCode;
 
 /**
  * Query that parse templates in classpath (resources dir).
  * In parse method uses ClassTemplateLoader for load templates from classpath, so when use
- * this class be sure that you want to work with templates from classpath
+ * this class be sure that you want to work with templates from classpath.
+ * Templates are loaded through shared {@link FtlConfig}, so template is read and
+ * parsed only once per path and name.
+ * Leading and trailing whitespaces are trimmed while template is rendered,
+ * so query is never copied for trimming. Output is rendered into reused
+ * {@link Buffers}, sized by average output of the template
  *
  * @since 0.1.0
  */
+@EqualsAndHashCode
 public final class FtlQuery implements Query {
     /**
      * Template name.
@@ -48,33 +51,43 @@ public final class FtlQuery implements Query {
     private final String name;
 
     /**
-     * Templates path.
+     * Templates configuration.
      */
-    private final String path;
+    private final FtlConfig config;
 
     public FtlQuery(final String path, final String name) {
+        this(new FtlConfig(path), name);
+    }
+
+    public FtlQuery(final FtlConfig config, final String name) {
         this.name = name;
-        this.path = path;
+        this.config = config;
     }
 
     @Override
     public String parse(final Params params) throws IOException, TemplateException {
-        final Template template = this.config().getTemplate(this.name);
-        final StringWriter result = new StringWriter(1024);
-        template.process(params, result);
-        return result.toString().trim();
+        return FtlQuery.parse(this.config.template(this.name), params);
     }
 
-    private Configuration config() {
-        final Configuration cfg = new Configuration(Configuration.VERSION_2_3_32);
-        cfg.setDefaultEncoding("UTF-8");
-        cfg.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
-        cfg.setLogTemplateExceptions(false);
-        cfg.setWrapUncheckedExceptions(true);
-        cfg.setFallbackOnNullLoopVariable(false);
-        cfg.unsetLocale();
-        cfg.setSQLDateAndTimeTimeZone(TimeZone.getDefault());
-        cfg.setTemplateLoader(new ClassTemplateLoader(FtlQuery.class, this.path));
-        return cfg;
+    @Override
+    public void print(final Params params, final Writer out)
+        throws IOException, TemplateException {
+        final Template template = this.config.template(this.name);
+        template.process(params, new TrimmedWriter(out));
+    }
+
+    /**
+     * Parse resolved template into trimmed text.
+     * @param template Template
+     * @param params Freemarker template params
+     * @return Query for target storage
+     * @throws IOException When template can not be written
+     * @throws TemplateException When template can not be rendered
+     */
+    static String parse(final Template template, final Params params)
+        throws IOException, TemplateException {
+        return Buffers.SHARED.text(
+            template, out -> template.process(params, new TrimmedWriter(new BuilderWriter(out)))
+        );
     }
 }
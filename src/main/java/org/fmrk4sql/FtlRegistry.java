@@ -0,0 +1,377 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import freemarker.template.Template;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Registry of all templates under classpath path.
+ * On first use discovers every template under the path, compiles them in parallel
+ * on fork-join pool and then returns ready-to-render queries by name.
+ * Compiled templates stay in registry and its queries render them directly,
+ * so they are never loaded again, whatever shared {@link FtlConfig} cache evicts.
+ * Call {@link #elapsed()} at application startup to warm templates up before
+ * the first request.
+ * When classpath root contains index {@value #INDEX}, written by fmrk4sql-maven-plugin
+ * at build time, registry takes templates of that root from index and does not scan it.
+ *
+ * @since 0.1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class FtlRegistry {
+    /**
+     * Index of templates written at build time.
+     */
+    public static final String INDEX = "META-INF/fmrk4sql/templates.idx";
+
+    /**
+     * Class for loading templates from classpath.
+     */
+    private final Class<?> base;
+
+    /**
+     * Templates path.
+     */
+    private final String path;
+
+    /**
+     * Pool for templates compilation.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Compiled templates, created once on first use.
+     */
+    private final Supplier<Compiled> compiled;
+
+    public FtlRegistry(final String path) {
+        this(FtlConfig.class, path);
+    }
+
+    public FtlRegistry(final Class<?> base, final String path) {
+        this(base, path, ForkJoinPool.commonPool());
+    }
+
+    public FtlRegistry(final Class<?> base, final String path, final ForkJoinPool pool) {
+        this.base = base;
+        this.path = path;
+        this.pool = pool;
+        this.compiled = Suppliers.memoize(this::compile);
+    }
+
+    /**
+     * Query for compiled template.
+     * Query renders template held by registry, without lookup in configuration.
+     * @param name Template name relative to registry path
+     * @return Ready-to-render query
+     */
+    public Query query(final String name) {
+        final Compiled snapshot = this.compiled.get();
+        if (snapshot.failures.containsKey(name)) {
+            throw new IllegalArgumentException(
+                String.format("Template %s is not compiled", name),
+                snapshot.failures.get(name)
+            );
+        }
+        final Template template = snapshot.templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException(
+                String.format("Template %s is not found in %s", name, this.path)
+            );
+        }
+        return new HeldQuery(template);
+    }
+
+    /**
+     * Names of successfully compiled templates.
+     * @return Template names
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(this.compiled.get().templates.keySet());
+    }
+
+    /**
+     * Templates that failed to compile with failure reasons.
+     * @return Failures by template name
+     */
+    public Map<String, Exception> failures() {
+        return Collections.unmodifiableMap(this.compiled.get().failures);
+    }
+
+    /**
+     * Time spent on templates discovery and compilation.
+     * @return Warm-up duration
+     */
+    public Duration elapsed() {
+        return this.compiled.get().elapsed;
+    }
+
+    /**
+     * Discover and compile all templates.
+     * Every exception of template load is recorded in failures, as futures
+     * of tasks are not read.
+     * @return Compiled templates
+     * @checkstyle IllegalCatchCheck (25 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Compiled compile() {
+        final long start = System.nanoTime();
+        final FtlConfig config = new FtlConfig(this.base, this.path);
+        final Map<String, Template> templates = new ConcurrentHashMap<>(16);
+        final Map<String, Exception> failures = new ConcurrentHashMap<>(0);
+        final Collection<Callable<Void>> tasks = new ArrayList<>(16);
+        for (final String name : this.discovered()) {
+            tasks.add(
+                () -> {
+                    try {
+                        templates.put(name, config.template(name));
+                    } catch (final IOException | RuntimeException ex) {
+                        failures.put(name, ex);
+                    }
+                    return null;
+                }
+            );
+        }
+        this.pool.invokeAll(tasks);
+        return new Compiled(templates, failures, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Names of all templates under path in classpath.
+     * Classpath roots, which build time index lists templates under path, are not
+     * scanned, templates are taken from their index. All other roots are scanned,
+     * and templates of both are merged.
+     * Uses class loader of base class, the same as freemarker template loader.
+     * @return Template names
+     */
+    @SuppressWarnings("PMD.UseProperClassLoader")
+    private Set<String> discovered() {
+        final String dir = this.directory();
+        final Set<String> result = new TreeSet<>();
+        try {
+            final Map<String, List<String>> indexed = this.indexed(dir);
+            indexed.values().forEach(result::addAll);
+            final Enumeration<URL> urls = this.base.getClassLoader().getResources(dir);
+            while (urls.hasMoreElements()) {
+                final URL url = urls.nextElement();
+                if (!indexed.containsKey(FtlRegistry.root(url, dir))) {
+                    result.addAll(FtlRegistry.scanned(url, dir));
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (final URISyntaxException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+        return result;
+    }
+
+    /**
+     * Templates under directory listed in build time indexes.
+     * @param dir Directory of templates
+     * @return Template names relative to directory by classpath root of index,
+     *  only for indexes that list templates under directory
+     * @throws IOException When index can not be read
+     */
+    @SuppressWarnings("PMD.UseProperClassLoader")
+    private Map<String, List<String>> indexed(final String dir) throws IOException {
+        final String prefix = String.join("", dir, "/");
+        final Map<String, List<String>> result = new HashMap<>(4);
+        final Enumeration<URL> urls = this.base.getClassLoader().getResources(FtlRegistry.INDEX);
+        while (urls.hasMoreElements()) {
+            final URL url = urls.nextElement();
+            try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)
+            )) {
+                final List<String> names = reader.lines()
+                    .map(String::trim)
+                    .filter(line -> line.startsWith(prefix))
+                    .map(line -> line.substring(prefix.length()))
+                    .collect(Collectors.toList());
+                if (!names.isEmpty()) {
+                    result.put(FtlRegistry.root(url, FtlRegistry.INDEX), names);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Templates of directory in single classpath root.
+     * @param url Directory URL in jar or file system
+     * @param dir Directory of templates
+     * @return Template names relative to directory
+     * @throws IOException When directory can not be read
+     * @throws URISyntaxException When URL of directory is not valid
+     */
+    private static Collection<String> scanned(final URL url, final String dir)
+        throws IOException, URISyntaxException {
+        final Collection<String> result;
+        if ("jar".equals(url.getProtocol())) {
+            result = FtlRegistry.entries((JarURLConnection) url.openConnection(), dir);
+        } else {
+            result = FtlRegistry.files(Paths.get(url.toURI()));
+        }
+        return result;
+    }
+
+    /**
+     * Classpath root of resource.
+     * @param url Resource URL
+     * @param name Resource name relative to classpath root
+     * @return Root URL without resource name
+     */
+    private static String root(final URL url, final String name) {
+        String result = url.toString();
+        while (result.endsWith("/")) {
+            result = result.substring(0, result.length() - 1);
+        }
+        if (result.endsWith(name)) {
+            result = result.substring(0, result.length() - name.length());
+        }
+        return result;
+    }
+
+    /**
+     * Path in class loader terms.
+     * Class loader path is always absolute and has no leading slash.
+     * @return Directory of templates
+     */
+    private String directory() {
+        String result = this.path;
+        if (!result.startsWith("/")) {
+            final String pkg = this.base.getPackageName().replace('.', '/');
+            result = String.join("/", pkg, result);
+        }
+        while (result.startsWith("/")) {
+            result = result.substring(1);
+        }
+        while (result.endsWith("/")) {
+            result = result.substring(0, result.length() - 1);
+        }
+        return result;
+    }
+
+    /**
+     * Templates in file system directory.
+     * @param dir Directory
+     * @return Template names relative to directory
+     * @throws IOException When directory can not be read
+     */
+    private static List<String> files(final Path dir) throws IOException {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            return walk.filter(Files::isRegularFile)
+                .map(file -> dir.relativize(file).toString().replace('\\', '/'))
+                .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Templates in jar directory.
+     * @param connection Connection to jar directory
+     * @param dir Directory inside jar
+     * @return Template names relative to directory
+     * @throws IOException When jar can not be read
+     */
+    private static List<String> entries(final JarURLConnection connection, final String dir)
+        throws IOException {
+        connection.setUseCaches(false);
+        final String prefix = String.join("", dir, "/");
+        final List<String> result = new ArrayList<>(16);
+        try (JarFile jar = connection.getJarFile()) {
+            final Enumeration<JarEntry> all = jar.entries();
+            while (all.hasMoreElements()) {
+                final JarEntry entry = all.nextElement();
+                if (!entry.isDirectory() && entry.getName().startsWith(prefix)) {
+                    result.add(entry.getName().substring(prefix.length()));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Result of templates compilation.
+     *
+     * @since 0.1.0
+     */
+    private static final class Compiled {
+        /**
+         * Compiled templates by name.
+         */
+        private final Map<String, Template> templates;
+
+        /**
+         * Compilation failures by template name.
+         */
+        private final Map<String, Exception> failures;
+
+        /**
+         * Compilation duration.
+         */
+        private final Duration elapsed;
+
+        Compiled(
+            final Map<String, Template> templates,
+            final Map<String, Exception> failures,
+            final Duration elapsed
+        ) {
+            this.templates = templates;
+            this.failures = failures;
+            this.elapsed = elapsed;
+        }
+    }
+}
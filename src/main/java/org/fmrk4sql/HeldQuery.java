@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.io.Writer;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Query over template already loaded and held by caller.
+ * Renders the same way as {@link FtlQuery}, but never looks template up again,
+ * so template stays alive as long as query or its holder.
+ *
+ * @since 0.1.0
+ */
+@EqualsAndHashCode
+final class HeldQuery implements Query {
+    /**
+     * Loaded template.
+     */
+    private final Template template;
+
+    HeldQuery(final Template template) {
+        this.template = template;
+    }
+
+    @Override
+    public String parse(final Params params) throws IOException, TemplateException {
+        return FtlQuery.parse(this.template, params);
+    }
+
+    @Override
+    public void print(final Params params, final Writer out)
+        throws IOException, TemplateException {
+        this.template.process(params, new TrimmedWriter(out));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Persistent list of params, where every layer adds one param to previous layer.
+ * Adding param takes constant time and shares all previous params with parent,
+ * so building params with chained {@link Params#with(Param)} is linear.
+ * Layers are flattened into array list once, on first read.
+ *
+ * @since 0.1.0
+ */
+final class Layers extends AbstractList<Param> {
+    /**
+     * Previous layer or initial params.
+     */
+    private final Iterable<Param> origin;
+
+    /**
+     * Param of this layer.
+     */
+    private final Param param;
+
+    /**
+     * All params in insertion order, built once on first read.
+     */
+    private final Supplier<List<Param>> flat;
+
+    Layers(final Iterable<Param> origin, final Param param) {
+        super();
+        this.origin = origin;
+        this.param = param;
+        this.flat = Suppliers.memoize(this::flattened);
+    }
+
+    @Override
+    public Param get(final int index) {
+        return this.flat.get().get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.flat.get().size();
+    }
+
+    /**
+     * All params from initial params to this layer.
+     * Walks layers back without recursion, so deep layers do not overflow stack.
+     * @return Params in insertion order
+     */
+    private List<Param> flattened() {
+        final Deque<Param> added = new ArrayDeque<>(16);
+        Iterable<Param> layer = this;
+        while (layer instanceof Layers) {
+            added.push(((Layers) layer).param);
+            layer = ((Layers) layer).origin;
+        }
+        final List<Param> result = new ArrayList<>(added.size() + 16);
+        for (final Param item : layer) {
+            result.add(item);
+        }
+        result.addAll(added);
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.hash.HashCode;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Params of map entries.
+ * Every entry is a param with the same name, entries with null values are missing params.
+ * Values get the same fmrk4sql values as {@link FmParam} constructors give them.
+ * Map is copied, so later changes of map do not change params.
+ *
+ * @since 0.1.0
+ */
+public final class MapParams implements Params {
+    /**
+     * Params of entries.
+     */
+    private final Params params;
+
+    public MapParams(final Map<String, ?> map) {
+        this(map, Params.WRAPPER);
+    }
+
+    public MapParams(final Map<String, ?> map, final ObjectWrapper wrapper) {
+        this.params = MapParams.entries(map, wrapper);
+    }
+
+    @Override
+    public TemplateModel get(final String name) throws TemplateModelException {
+        return this.params.get(name);
+    }
+
+    @Override
+    public boolean isEmpty() throws TemplateModelException {
+        return this.params.isEmpty();
+    }
+
+    @Override
+    public Params with(final Param param) {
+        return this.params.with(param);
+    }
+
+    @Override
+    public HashCode fingerprint() {
+        return this.params.fingerprint();
+    }
+
+    @Override
+    public Collection<Param> list() {
+        return this.params.list();
+    }
+
+    @Override
+    public Param param(final String name) {
+        return this.params.param(name);
+    }
+
+    /**
+     * Params of entries of map copy.
+     * @param map Map
+     * @param wrapper Wrapper over java object for freemarker parser
+     * @return Params
+     */
+    private static Params entries(final Map<String, ?> map, final ObjectWrapper wrapper) {
+        final Map<String, Object> copy = Collections.unmodifiableMap(new LinkedHashMap<>(map));
+        return new FieldParams(copy.keySet(), copy::get, wrapper);
+    }
+}
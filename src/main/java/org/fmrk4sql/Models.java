@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Wrapped template models of params.
+ * Param values are immutable, so every param is wrapped once per params instance
+ * and freemarker gets the same model for every reference of the variable.
+ * Values that implement freemarker models are not wrapped by default wrapper at all,
+ * see {@link #wrapped(Value, ObjectWrapper)}, which params of other packages use too.
+ * Thread-safe.
+ *
+ * @since 0.1.0
+ */
+public final class Models {
+    /**
+     * Models by variable name.
+     */
+    private final ConcurrentMap<String, TemplateModel> cache;
+
+    Models() {
+        this.cache = new ConcurrentHashMap<>(16);
+    }
+
+    /**
+     * Wrap param value.
+     * Values that are template models themselves are given to freemarker as is,
+     * but only with default {@link Params#WRAPPER}, so injected wrapper sees every value.
+     * @param value Param value
+     * @param wrapper Wrapper of param value
+     * @return Template model
+     * @throws TemplateModelException When value can not be wrapped
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static TemplateModel wrapped(final Value<?, ?> value, final ObjectWrapper wrapper)
+        throws TemplateModelException {
+        final TemplateModel result;
+        if (value instanceof TemplateModel && Params.WRAPPER.equals(wrapper)) {
+            result = (TemplateModel) value;
+        } else {
+            result = wrapper.wrap(value.val());
+        }
+        return result;
+    }
+
+    /**
+     * Template model of param.
+     * Null models are not cached, they are cheap to wrap again.
+     * @param name Variable name
+     * @param param Param of variable
+     * @param wrapper Wrapper of param value
+     * @return Template model
+     * @throws TemplateModelException When value can not be wrapped
+     */
+    TemplateModel model(final String name, final Param param, final ObjectWrapper wrapper)
+        throws TemplateModelException {
+        TemplateModel result = this.cache.get(name);
+        if (result == null) {
+            result = Models.wrapped(param.value(), wrapper);
+            if (result != null) {
+                final TemplateModel cached = this.cache.putIfAbsent(name, result);
+                result = Objects.requireNonNullElse(cached, result);
+            }
+        }
+        return result;
+    }
+}
@@ -25,8 +25,6 @@
 
 package org.fmrk4sql;
 
-import freemarker.template.DefaultObjectWrapper;
-import freemarker.template.ObjectWrapper;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
 import java.util.Collections;
@@ -40,10 +38,7 @@ import java.util.List;
 public final class NullParams implements Params {
     @Override
     public TemplateModel get(final String key) throws TemplateModelException {
-        final ObjectWrapper wrapper = new DefaultObjectWrapper(
-            freemarker.template.Configuration.VERSION_2_3_32
-        );
-        return wrapper.wrap(null);
+        return Params.WRAPPER.wrap(null);
     }
 
     @Override
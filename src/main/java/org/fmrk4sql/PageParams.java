@@ -25,12 +25,13 @@
 
 package org.fmrk4sql;
 
-import freemarker.template.DefaultObjectWrapper;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
 import freemarker.template.ObjectWrapper;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import org.fmrk4sql.val.IntVal;
 import org.fmrk4sql.val.LongVal;
@@ -40,14 +41,28 @@ import org.fmrk4sql.val.ObjVal;
  * Decorator at Params with pageable functionality.
  * The most frequent case of use fmrk4sql is queries with pageable support.
  * This decorator allow support
+ * Page params are computed only when template references them, and every
+ * param is computed once. Page params are never empty, so emptiness is known
+ * without reading pageable. All lazy state is published safely, so params
+ * can be shared between threads.
  *
  * @since 0.1.0
  */
 public final class PageParams implements Params {
     /**
-     * Store params for freemarker template parse.
+     * Page param name.
      */
-    private final List<Param> params;
+    private static final String PAGE = "page";
+
+    /**
+     * Size param name.
+     */
+    private static final String SIZE = "size";
+
+    /**
+     * Orders param name.
+     */
+    private static final String ORDERS = "orders";
 
     /**
      * Link to decorated object.
@@ -61,40 +76,81 @@ public final class PageParams implements Params {
 
     /**
      * Wrapper over java object for freemarker parser.
-     * Need to initialize one time and multiple use in get method.
      */
     private final ObjectWrapper wrapper;
 
+    /**
+     * Wrapped models of params.
+     */
+    private final Models models;
+
+    /**
+     * Page param, computed once on first use.
+     */
+    private final Supplier<Param> page;
+
+    /**
+     * Size param, computed once on first use.
+     */
+    private final Supplier<Param> size;
+
+    /**
+     * Orders param, computed once on first use.
+     */
+    private final Supplier<Param> orders;
+
+    /**
+     * Immutable snapshot of all params, built once on first use.
+     */
+    private final Supplier<List<Param>> params;
+
+    /**
+     * Fingerprint of params, computed once on first use.
+     */
+    private final Supplier<HashCode> hash;
+
     public PageParams(final Params origin, final Pageable pageable) {
+        this(origin, pageable, Params.WRAPPER);
+    }
+
+    public PageParams(final Params origin, final Pageable pageable, final ObjectWrapper wrapper) {
         this.origin = origin;
         this.pageable = pageable;
-        this.params = new ArrayList<>(this.origin.list().size());
-        this.wrapper = new DefaultObjectWrapper(freemarker.template.Configuration.VERSION_2_3_32);
+        this.wrapper = wrapper;
+        this.models = new Models();
+        this.page = Suppliers.memoize(
+            () -> new FmParam(PageParams.PAGE, new LongVal(this.pageable.page()))
+        );
+        this.size = Suppliers.memoize(
+            () -> new FmParam(PageParams.SIZE, new IntVal(this.pageable.size()))
+        );
+        this.orders = Suppliers.memoize(
+            () -> new FmParam(PageParams.ORDERS, new ObjVal(this.pageable.orders()))
+        );
+        this.params = Suppliers.memoize(this::snapshot);
+        this.hash = Suppliers.memoize(() -> new Fingerprint(this.list(), this.wrapper).value());
     }
 
     @Override
     public TemplateModel get(final String name) throws TemplateModelException {
-        if (this.params.isEmpty()) {
-            this.params.addAll(this.origin.list());
-            this.params.add(new FmParam("page", new LongVal(this.pageable.page())));
-            this.params.add(new FmParam("size", new IntVal(this.pageable.size())));
-            this.params.add(new FmParam("orders", new ObjVal(this.pageable.orders())));
-        }
         final Param param = this.param(name);
         TemplateModel result = null;
         if (param != null) {
-            result = this.wrapper.wrap(this.param(name).value().val());
+            result = this.models.model(name, param, this.wrapper);
         }
         return result;
     }
 
     @Override
     public Param param(final String name) {
-        Param result = null;
-        for (final Param param : this.params) {
-            if (name.equals(param.name())) {
-                result = param;
-                break;
+        Param result = this.origin.param(name);
+        if (result == null) {
+            if (PageParams.PAGE.equals(name)) {
+                result = this.page.get();
+            } else if (PageParams.SIZE.equals(name)) {
+                result = this.size.get();
+            } else if (PageParams.ORDERS.equals(name)) {
+                result = this.orders.get();
             }
         }
         return result;
@@ -102,22 +158,32 @@ public final class PageParams implements Params {
 
     @Override
     public boolean isEmpty() {
-        return this.params.isEmpty();
+        return false;
     }
 
     @Override
     public Params with(final Param param) {
-        return new PageParams(this.origin.with(param), this.pageable);
+        return new PageParams(this.origin.with(param), this.pageable, this.wrapper);
+    }
+
+    @Override
+    public HashCode fingerprint() {
+        return this.hash.get();
     }
 
     @Override
     public List<Param> list() {
-        if (this.params.isEmpty()) {
-            this.params.addAll(this.origin.list());
-            this.params.add(new FmParam("page", new LongVal(this.pageable.page())));
-            this.params.add(new FmParam("size", new IntVal(this.pageable.size())));
-            this.params.add(new FmParam("orders", new ObjVal(this.pageable.orders())));
-        }
-        return Collections.unmodifiableList(this.params);
+        return this.params.get();
+    }
+
+    /**
+     * All params of origin followed by page params.
+     * @return Immutable params
+     */
+    private List<Param> snapshot() {
+        return ImmutableList.<Param>builder()
+            .addAll(this.origin.list())
+            .add(this.page.get(), this.size.get(), this.orders.get())
+            .build();
     }
 }
@@ -25,6 +25,10 @@
 
 package org.fmrk4sql;
 
+import com.google.common.hash.HashCode;
+import freemarker.template.Configuration;
+import freemarker.template.DefaultObjectWrapperBuilder;
+import freemarker.template.ObjectWrapper;
 import freemarker.template.TemplateHashModel;
 import java.util.Collection;
 
@@ -34,6 +38,12 @@ import java.util.Collection;
  * @since 0.1.0
  */
 public interface Params extends TemplateHashModel {
+    /**
+     * Wrapper over java objects shared by all params.
+     * Wrapper is thread-safe and keeps class introspection cache warm between queries.
+     */
+    ObjectWrapper WRAPPER = new DefaultObjectWrapperBuilder(Configuration.VERSION_2_3_32).build();
+
     /**
      * Add new parameter and return new params.
      *
@@ -56,4 +66,21 @@ public interface Params extends TemplateHashModel {
      * @return Single param value
      */
     Param param(String name);
+
+    /**
+     * Fingerprint of params for cache keys.
+     * Params with the same names and values in the same order, given to template by
+     * the same wrapper, have the same fingerprint, whatever implementations of params
+     * and lists hold them. Params with values of unknown classes or with lazy values
+     * not computed yet have no fingerprint and are not cached.
+     * Default implementation hashes {@link #list()} with shared {@link #WRAPPER}
+     * again on every call. Params with own wrapper override it, and params
+     * that are immutable override it to compute fingerprint once.
+     *
+     * @return Hash code of names and values, 128 bits long, or null when params
+     *  can not be hashed exactly
+     */
+    default HashCode fingerprint() {
+        return new Fingerprint(this.list()).value();
+    }
 }
@@ -27,6 +27,11 @@ package org.fmrk4sql;
 
 import freemarker.template.TemplateException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Freemarker template parser.
@@ -44,4 +49,48 @@ public interface Query {
      * @throws TemplateException
      */
     String parse(Params params) throws IOException, TemplateException;
+
+    /**
+     * Parse freemarker template directly into writer.
+     * Allows to stream large queries to storage without building the whole string.
+     * @param params Freemarker template params
+     * @param out Output for query
+     * @throws IOException
+     * @throws TemplateException
+     */
+    default void print(final Params params, final Writer out)
+        throws IOException, TemplateException {
+        out.write(this.parse(params));
+    }
+
+    /**
+     * Parse freemarker template directly into stream in UTF-8.
+     * Stream is flushed, but not closed.
+     * @param params Freemarker template params
+     * @param out Output for query
+     * @throws IOException
+     * @throws TemplateException
+     */
+    default void print(final Params params, final OutputStream out)
+        throws IOException, TemplateException {
+        final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        this.print(params, writer);
+        writer.flush();
+    }
+
+    /**
+     * Parse freemarker template directly into channel in UTF-8.
+     * Chars are encoded while template is rendered, without intermediate string.
+     * Channel is not closed.
+     * @param params Freemarker template params
+     * @param out Output for query
+     * @throws IOException
+     * @throws TemplateException
+     */
+    default void print(final Params params, final WritableByteChannel out)
+        throws IOException, TemplateException {
+        try (Writer writer = new Utf8Writer(out)) {
+            this.print(params, writer);
+        }
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scope of params over parent params.
+ * Scope adds a few params or overrides params of parent with the same names,
+ * all other names are looked up in parent. Parent params are never copied
+ * for lookup, so scope costs only its own params. Adding param to scope copies
+ * only params of scope, parent is shared.
+ *
+ * @since 0.1.0
+ */
+public final class ScopeParams implements Params {
+    /**
+     * Parent params.
+     */
+    private final Params parent;
+
+    /**
+     * Params of this scope by name, in insertion order.
+     */
+    private final Map<String, Param> added;
+
+    /**
+     * Wrapper over java object for freemarker parser.
+     */
+    private final ObjectWrapper wrapper;
+
+    /**
+     * Wrapped models of params.
+     */
+    private final Models models;
+
+    /**
+     * All params, built once on first use.
+     */
+    private final Supplier<List<Param>> params;
+
+    /**
+     * Fingerprint of params, computed once on first use.
+     */
+    private final Supplier<HashCode> hash;
+
+    public ScopeParams(final Params parent, final Param... params) {
+        this(parent, Arrays.asList(params));
+    }
+
+    public ScopeParams(final Params parent, final Iterable<Param> params) {
+        this(parent, params, Params.WRAPPER);
+    }
+
+    public ScopeParams(
+        final Params parent, final Iterable<Param> params, final ObjectWrapper wrapper
+    ) {
+        this.parent = parent;
+        this.added = ScopeParams.indexed(params);
+        this.wrapper = wrapper;
+        this.models = new Models();
+        this.params = Suppliers.memoize(this::merged);
+        this.hash = Suppliers.memoize(() -> new Fingerprint(this.list(), this.wrapper).value());
+    }
+
+    @Override
+    public TemplateModel get(final String name) throws TemplateModelException {
+        final Param param = this.param(name);
+        TemplateModel result = null;
+        if (param != null) {
+            result = this.models.model(name, param, this.wrapper);
+        }
+        return result;
+    }
+
+    @Override
+    public Param param(final String name) {
+        Param result = this.added.get(name);
+        if (result == null) {
+            result = this.parent.param(name);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.params.get().isEmpty();
+    }
+
+    @Override
+    public Params with(final Param param) {
+        return new ScopeParams(
+            this.parent,
+            ImmutableList.<Param>builder().addAll(this.added.values()).add(param).build(),
+            this.wrapper
+        );
+    }
+
+    @Override
+    public HashCode fingerprint() {
+        return this.hash.get();
+    }
+
+    @Override
+    public List<Param> list() {
+        return this.params.get();
+    }
+
+    /**
+     * Parent params, which are not overridden, followed by params of scope.
+     * @return Immutable params
+     */
+    private List<Param> merged() {
+        final ImmutableList.Builder<Param> result = ImmutableList.builder();
+        for (final Param param : this.parent.list()) {
+            if (!this.added.containsKey(param.name())) {
+                result.add(param);
+            }
+        }
+        return result.addAll(this.added.values()).build();
+    }
+
+    /**
+     * Params by name, where the last param with name wins.
+     * @param params Params
+     * @return Params by name in insertion order
+     */
+    private static Map<String, Param> indexed(final Iterable<Param> params) {
+        final Map<String, Param> result = new LinkedHashMap<>(16);
+        for (final Param param : params) {
+            result.put(param.name(), param);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
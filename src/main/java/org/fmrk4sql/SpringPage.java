@@ -76,7 +76,7 @@ public final class SpringPage implements Pageable {
         final List<Orderable> result;
         if (this.pageable.getSort().isSorted()) {
             result = this.pageable.getSort().get()
-                .map(p -> new SpringOrder(p)).collect(Collectors.toList());
+                .map(p -> new SpringOrder(p)).collect(Collectors.toUnmodifiableList());
         } else {
             result = Collections.EMPTY_LIST;
         }
@@ -25,36 +25,89 @@
 
 package org.fmrk4sql;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import java.io.IOException;
 import java.io.StringReader;
-import java.io.StringWriter;
+import java.io.Writer;
+import lombok.EqualsAndHashCode;
 
 /**
  * Freemarker template parser from string.
+ * Compiled templates are kept in bounded cache keyed by template text,
+ * so only the first parse of the same string pays for freemarker parsing.
  *
  * @since 0.1.0
  */
+@EqualsAndHashCode
 public final class StrQuery implements Query {
 
+    /**
+     * Compiled templates shared between all string queries.
+     */
+    private static final Cache<String, Template> TEMPLATES = CacheBuilder.newBuilder()
+        .maximumSize(1024L)
+        .build();
+
+    /**
+     * Freemarker configuration shared between all compiled templates.
+     */
+    private static final Configuration CONFIG = new Configuration(
+        Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS
+    );
+
     /**
      * Freemarker template in String.
      */
     private final String template;
 
+    /**
+     * Cache of compiled templates.
+     */
+    @EqualsAndHashCode.Exclude
+    private final Cache<String, Template> templates;
+
     public StrQuery(final String template) {
+        this(template, StrQuery.TEMPLATES);
+    }
+
+    public StrQuery(final String template, final Cache<String, Template> templates) {
         this.template = template;
+        this.templates = templates;
     }
 
     @Override
     public String parse(final Params params) throws IOException, TemplateException {
-        final Template tmplt = new Template(
-            "string query", new StringReader(this.template), new Configuration()
+        final Template compiled = this.compiled();
+        return Buffers.SHARED.text(
+            compiled, out -> compiled.process(params, new BuilderWriter(out))
         );
-        final StringWriter result = new StringWriter(1024);
-        tmplt.process(params, result);
-        return result.toString();
+    }
+
+    @Override
+    public void print(final Params params, final Writer out)
+        throws IOException, TemplateException {
+        this.compiled().process(params, out);
+    }
+
+    /**
+     * Compiled freemarker template from cache.
+     * Concurrent parse of the same string may compile it twice,
+     * but only one template stays in cache.
+     * @return Compiled template
+     * @throws IOException When template has syntax errors
+     */
+    private Template compiled() throws IOException {
+        Template result = this.templates.getIfPresent(this.template);
+        if (result == null) {
+            result = new Template(
+                "string query", new StringReader(this.template), StrQuery.CONFIG
+            );
+            this.templates.put(this.template, result);
+        }
+        return result;
     }
 }
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer that trims leading and trailing whitespaces on the fly.
+ * Whitespaces are the same as in {@link String#trim()}. Leading whitespaces are skipped,
+ * inner whitespaces are held back until next visible char, so whitespaces at the end
+ * of output are never written to origin writer.
+ * Not thread-safe.
+ *
+ * @since 0.1.0
+ */
+@SuppressWarnings("PMD.AvoidStringBufferField")
+public final class TrimmedWriter extends Writer {
+    /**
+     * Origin writer.
+     */
+    private final Writer origin;
+
+    /**
+     * Whitespaces held back since last visible char.
+     */
+    private final StringBuilder pending;
+
+    /**
+     * Visible char was written or not.
+     */
+    private boolean started;
+
+    /**
+     * Scratch buffer for chars of written strings, reused between writes.
+     */
+    private char[] scratch;
+
+    public TrimmedWriter(final Writer origin) {
+        super(origin);
+        this.origin = origin;
+        this.pending = new StringBuilder(16);
+        this.scratch = new char[256];
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) throws IOException {
+        int first = off;
+        final int end = off + len;
+        if (!this.started) {
+            while (first < end && TrimmedWriter.blank(cbuf[first])) {
+                first += 1;
+            }
+        }
+        int last = end - 1;
+        while (last >= first && TrimmedWriter.blank(cbuf[last])) {
+            last -= 1;
+        }
+        if (last >= first) {
+            if (this.pending.length() > 0) {
+                this.origin.append(this.pending);
+                this.pending.setLength(0);
+            }
+            this.origin.write(cbuf, first, last - first + 1);
+            this.started = true;
+        }
+        final int tail = Math.max(last + 1, first);
+        if (this.started) {
+            this.pending.append(cbuf, tail, end - tail);
+        }
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) throws IOException {
+        if (this.scratch.length < len) {
+            this.scratch = new char[Math.max(len, this.scratch.length * 2)];
+        }
+        str.getChars(off, off + len, this.scratch, 0);
+        this.write(this.scratch, 0, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.origin.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    /**
+     * Whitespace or not, the same as trim does.
+     * @param chr Char
+     * @return True for whitespace
+     */
+    private static boolean blank(final char chr) {
+        return chr <= ' ';
+    }
+}
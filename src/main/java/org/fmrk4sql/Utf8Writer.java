@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writer that encodes text into UTF-8 bytes and writes them to channel.
+ * Chars are encoded into pooled direct buffer while template is rendered,
+ * so neither string nor byte array of whole query is created.
+ * Malformed chars are replaced, the same as {@link String#getBytes} does.
+ * Close writes the rest of bytes and returns buffer to pool, channel is not closed.
+ * Closed writer can not be written or flushed.
+ * Not thread-safe.
+ *
+ * @since 0.1.0
+ */
+public final class Utf8Writer extends Writer {
+    /**
+     * Idle direct buffers shared by all writers.
+     */
+    private static final BlockingQueue<ByteBuffer> POOL = new ArrayBlockingQueue<>(
+        Runtime.getRuntime().availableProcessors() * 2
+    );
+
+    /**
+     * Size of direct buffer.
+     */
+    private static final int SIZE = 8192;
+
+    /**
+     * Output channel.
+     */
+    private final WritableByteChannel channel;
+
+    /**
+     * Chars waiting for encoding.
+     */
+    private final CharBuffer chars;
+
+    /**
+     * Encoded bytes waiting for channel, null after close returns it to pool.
+     */
+    private ByteBuffer bytes;
+
+    /**
+     * UTF-8 encoder.
+     */
+    private final CharsetEncoder encoder;
+
+    /**
+     * Writer is closed or not.
+     */
+    private boolean closed;
+
+    public Utf8Writer(final WritableByteChannel channel) {
+        this(channel, Utf8Writer.borrow());
+    }
+
+    private Utf8Writer(final WritableByteChannel channel, final ByteBuffer bytes) {
+        super();
+        this.channel = channel;
+        this.bytes = bytes;
+        this.chars = CharBuffer.allocate(1024);
+        this.encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) throws IOException {
+        this.ensureOpen();
+        int pos = off;
+        final int end = off + len;
+        while (pos < end) {
+            final int count = Math.min(this.chars.remaining(), end - pos);
+            this.chars.put(cbuf, pos, count);
+            pos += count;
+            if (!this.chars.hasRemaining()) {
+                this.encode(false);
+            }
+        }
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) throws IOException {
+        this.ensureOpen();
+        int pos = off;
+        final int end = off + len;
+        while (pos < end) {
+            final int count = Math.min(this.chars.remaining(), end - pos);
+            this.chars.put(str, pos, pos + count);
+            pos += count;
+            if (!this.chars.hasRemaining()) {
+                this.encode(false);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.ensureOpen();
+        this.encode(false);
+        this.drain();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.NullAssignment")
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            this.encode(true);
+            while (this.encoder.flush(this.bytes).isOverflow()) {
+                this.drain();
+            }
+            this.drain();
+            Utf8Writer.POOL.offer(this.bytes);
+            this.bytes = null;
+        }
+    }
+
+    /**
+     * Fail when writer is closed, as its buffer may belong to another writer.
+     * @throws IOException When writer is closed
+     */
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("closed");
+        }
+    }
+
+    /**
+     * Encode pending chars into bytes, writing full buffers to channel.
+     * Unpaired high surrogate at the end stays pending until next chars.
+     * @param last No more chars will be written
+     * @throws IOException When channel can not be written
+     */
+    private void encode(final boolean last) throws IOException {
+        this.chars.flip();
+        CoderResult result = this.encoder.encode(this.chars, this.bytes, last);
+        while (result.isOverflow()) {
+            this.drain();
+            result = this.encoder.encode(this.chars, this.bytes, last);
+        }
+        this.chars.compact();
+    }
+
+    /**
+     * Write encoded bytes to channel.
+     * @throws IOException When channel can not be written
+     */
+    private void drain() throws IOException {
+        this.bytes.flip();
+        while (this.bytes.hasRemaining()) {
+            this.channel.write(this.bytes);
+        }
+        this.bytes.clear();
+    }
+
+    /**
+     * Take idle buffer from pool or allocate new one.
+     * @return Empty direct buffer
+     */
+    private static ByteBuffer borrow() {
+        ByteBuffer result = Utf8Writer.POOL.poll();
+        if (result == null) {
+            result = ByteBuffer.allocateDirect(Utf8Writer.SIZE);
+        }
+        result.clear();
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import java.time.LocalDate;
+import org.fmrk4sql.val.BoolVal;
+import org.fmrk4sql.val.DblVal;
+import org.fmrk4sql.val.IntVal;
+import org.fmrk4sql.val.JdVal;
+import org.fmrk4sql.val.JdsqlVal;
+import org.fmrk4sql.val.LdVal;
+import org.fmrk4sql.val.LongVal;
+import org.fmrk4sql.val.ObjVal;
+import org.fmrk4sql.val.StrVal;
+
+/**
+ * Fmrk4sql values of plain java objects.
+ * Objects get the same values as {@link FmParam} constructors give them,
+ * booleans included, so params of maps and beans are printed and converted
+ * as hand-built params.
+ *
+ * @since 0.1.0
+ */
+final class Values {
+    /**
+     * Utility class.
+     */
+    private Values() {
+    }
+
+    /**
+     * Value of java object.
+     * @param obj Not null java object
+     * @return Value
+     * @checkstyle CyclomaticComplexityCheck (30 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    static Value<?, ?> value(final Object obj) {
+        final Value<?, ?> result;
+        if (obj instanceof Value) {
+            result = (Value<?, ?>) obj;
+        } else if (obj instanceof String) {
+            result = new StrVal((String) obj);
+        } else if (obj instanceof Integer) {
+            result = new IntVal((int) obj);
+        } else if (obj instanceof Long) {
+            result = new LongVal((long) obj);
+        } else if (obj instanceof Double) {
+            result = new DblVal((double) obj);
+        } else if (obj instanceof Boolean) {
+            result = new BoolVal((Boolean) obj);
+        } else if (obj instanceof LocalDate) {
+            result = new LdVal((LocalDate) obj);
+        } else if (obj instanceof java.sql.Date) {
+            result = new JdsqlVal((java.sql.Date) obj);
+        } else if (obj instanceof java.util.Date) {
+            result = new JdVal((java.util.Date) obj);
+        } else {
+            result = new ObjVal(obj);
+        }
+        return result;
+    }
+}
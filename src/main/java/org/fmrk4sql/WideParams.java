@@ -0,0 +1,265 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.hash.HashCode;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact params for queries with thousands of params.
+ * Names and raw values are kept in parallel arrays of open-addressing hash table,
+ * without param and value objects per param, so every param costs a few references
+ * over its name and value. Names can be interned with shared pool, so params of
+ * many queries with the same columns share name strings.
+ * Params and values are created on every read, so these params are made for
+ * queries where template reads every param once. Null values are missing params,
+ * the last value of repeated name wins. Values get the same fmrk4sql values
+ * as {@link FmParam} constructors give them.
+ *
+ * @since 0.1.0
+ */
+public final class WideParams implements Params {
+    /**
+     * Hash table of params.
+     */
+    private final Table table;
+
+    /**
+     * Wrapper over java object for freemarker parser.
+     */
+    private final ObjectWrapper wrapper;
+
+    /**
+     * Fingerprint of params, computed once on first use.
+     */
+    private final Supplier<HashCode> hash;
+
+    public WideParams(final Map<String, ?> map) {
+        this(map.keySet().toArray(new String[0]), map.values().toArray());
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    public WideParams(final String[] names, final Object[] values) {
+        this(names, values, name -> name);
+    }
+
+    public WideParams(final String[] names, final Object[] values, final Interner<String> pool) {
+        this(names, values, pool, Params.WRAPPER);
+    }
+
+    /**
+     * Ctor.
+     * @param names Param names
+     * @param values Param values, parallel to names
+     * @param pool Pool of interned names
+     * @param wrapper Wrapper over java object for freemarker parser
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public WideParams(
+        final String[] names, final Object[] values,
+        final Interner<String> pool, final ObjectWrapper wrapper
+    ) {
+        this.table = WideParams.indexed(names, values, pool);
+        this.wrapper = wrapper;
+        this.hash = Suppliers.memoize(() -> new Fingerprint(this.list(), this.wrapper).value());
+    }
+
+    @Override
+    public TemplateModel get(final String name) throws TemplateModelException {
+        final Object value = this.table.value(name);
+        TemplateModel result = null;
+        if (value != null) {
+            result = Models.wrapped(Values.value(value), this.wrapper);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.table.size() == 0;
+    }
+
+    @Override
+    public Params with(final Param param) {
+        return new ScopeParams(this, ImmutableList.of(param), this.wrapper);
+    }
+
+    @Override
+    public HashCode fingerprint() {
+        return this.hash.get();
+    }
+
+    @Override
+    public List<Param> list() {
+        final ImmutableList.Builder<Param> result = ImmutableList.builderWithExpectedSize(
+            this.table.size()
+        );
+        for (int idx = 0; idx < this.table.size(); idx += 1) {
+            result.add(this.table.param(idx));
+        }
+        return result.build();
+    }
+
+    @Override
+    public Param param(final String name) {
+        final Object value = this.table.value(name);
+        Param result = null;
+        if (value != null) {
+            result = new FmParam(name, Values.value(value));
+        }
+        return result;
+    }
+
+    /**
+     * Hash table of params.
+     * @param names Param names
+     * @param values Param values, parallel to names
+     * @param pool Pool of interned names
+     * @return Table
+     */
+    private static Table indexed(
+        final String[] names, final Object[] values, final Interner<String> pool
+    ) {
+        if (names.length != values.length) {
+            throw new IllegalArgumentException(
+                String.format("Got %d names for %d values", names.length, values.length)
+            );
+        }
+        final Table result = new Table(names.length);
+        for (int idx = 0; idx < names.length; idx += 1) {
+            if (values[idx] != null) {
+                result.put(pool.intern(names[idx]), values[idx]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Open-addressing hash table with linear probing and insertion order.
+     * @since 0.1.0
+     */
+    private static final class Table {
+        /**
+         * Names by slot, null for empty slots.
+         */
+        private final String[] keys;
+
+        /**
+         * Values by slot, parallel to keys.
+         */
+        private final Object[] vals;
+
+        /**
+         * Slots in insertion order.
+         */
+        private final int[] order;
+
+        /**
+         * Number of params.
+         */
+        private int count;
+
+        Table(final int expected) {
+            this.keys = new String[Table.capacity(expected)];
+            this.vals = new Object[this.keys.length];
+            this.order = new int[expected];
+        }
+
+        /**
+         * Put param, replacing value of the same name.
+         * @param name Name
+         * @param value Not null value
+         */
+        void put(final String name, final Object value) {
+            final int slot = this.slot(name);
+            if (this.keys[slot] == null) {
+                this.keys[slot] = name;
+                this.order[this.count] = slot;
+                this.count += 1;
+            }
+            this.vals[slot] = value;
+        }
+
+        /**
+         * Value of param.
+         * @param name Name
+         * @return Value or null when there is no param
+         */
+        Object value(final String name) {
+            return this.vals[this.slot(name)];
+        }
+
+        /**
+         * Param in insertion order.
+         * @param idx Index of param
+         * @return Param
+         */
+        Param param(final int idx) {
+            final int slot = this.order[idx];
+            return new FmParam(this.keys[slot], Values.value(this.vals[slot]));
+        }
+
+        /**
+         * Number of params.
+         * @return Number of params
+         */
+        int size() {
+            return this.count;
+        }
+
+        /**
+         * Slot of name, or empty slot where name should be put.
+         * @param name Name
+         * @return Slot
+         */
+        private int slot(final String name) {
+            final int mask = this.keys.length - 1;
+            final int hash = name.hashCode();
+            int slot = (hash ^ hash >>> 16) & mask;
+            while (this.keys[slot] != null && !this.keys[slot].equals(name)) {
+                slot = slot + 1 & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * Power of two capacity that keeps table at most two thirds full.
+         * @param expected Expected number of params
+         * @return Capacity
+         */
+        private static int capacity(final int expected) {
+            return Integer.highestOneBit(Math.max(expected * 3 / 2, 1)) << 1;
+        }
+    }
+}
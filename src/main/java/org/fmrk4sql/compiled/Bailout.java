@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.compiled;
+
+/**
+ * Compiled template met value that it can not render exactly as freemarker does.
+ * Rendering is repeated by freemarker interpreter, that produces the same
+ * output or the same error as without compilation.
+ * Bailout happens in the middle of rendering, so params that compiled template
+ * has already read are read by interpreter once more. Params of this library
+ * wrap values once and compute lazy values once, so repeated read is a lookup,
+ * but custom params and values may be evaluated twice.
+ *
+ * @since 0.1.0
+ */
+final class Bailout extends RuntimeException {
+    /**
+     * Single instance, bailout carries no state.
+     */
+    static final Bailout INSTANCE = new Bailout();
+
+    private static final long serialVersionUID = -3630934213557458164L;
+
+    private Bailout() {
+        super("Compiled template can not render value", null, false, false);
+    }
+}
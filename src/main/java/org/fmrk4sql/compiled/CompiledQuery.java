@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.compiled;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import org.fmrk4sql.Buffers;
+import org.fmrk4sql.FtlConfig;
+import org.fmrk4sql.Params;
+import org.fmrk4sql.Query;
+import org.fmrk4sql.TrimmedWriter;
+
+/**
+ * Query that renders classpath template with compiled java renderer.
+ * The common subset of directives (${} interpolation, #if, #list, ?has_content)
+ * is compiled into chain of pre-bound lambdas that append static text and param
+ * values directly to builder. Templates with other directives, and values that compiled
+ * renderer can not print exactly as freemarker does, are rendered by freemarker interpreter.
+ * Output is the same as output of {@link org.fmrk4sql.FtlQuery}.
+ * When compiled renderer bails out in the middle of template, interpreter renders
+ * template from the start and reads params already read by compiled renderer again,
+ * so custom params and values should not rely on being read once.
+ *
+ * @since 0.1.0
+ */
+@EqualsAndHashCode
+public final class CompiledQuery implements Query {
+    /**
+     * Renderers of compiled templates by templates configuration and name.
+     * Renderer holds its template, so cache is bounded instead of weak.
+     */
+    private static final Cache<Map.Entry<FtlConfig, String>, Renderer> RENDERERS =
+        CacheBuilder.newBuilder()
+            .maximumSize(1024L)
+            .build();
+
+    /**
+     * Templates configuration.
+     */
+    private final FtlConfig config;
+
+    /**
+     * Template name.
+     */
+    private final String name;
+
+    public CompiledQuery(final String path, final String name) {
+        this(new FtlConfig(path), name);
+    }
+
+    public CompiledQuery(final FtlConfig config, final String name) {
+        this.config = config;
+        this.name = name;
+    }
+
+    @Override
+    public String parse(final Params params) throws IOException, TemplateException {
+        final Renderer renderer = this.renderer();
+        return Buffers.SHARED.text(
+            renderer,
+            out -> {
+                renderer.render(params, out);
+                CompiledQuery.trim(out);
+            }
+        );
+    }
+
+    @Override
+    public void print(final Params params, final Writer out)
+        throws IOException, TemplateException {
+        this.renderer().render(params, new TrimmedWriter(out));
+    }
+
+    /**
+     * Freeze params for this template.
+     * Params of all variables referenced by template are resolved once, so params
+     * rendered many times are read by slot instead of name, and missing variables
+     * are reported by {@link SlotParams#missing()} before rendering.
+     * Values are wrapped by shared {@link Params#WRAPPER}.
+     * @param params Params
+     * @return Params frozen for this template
+     * @throws IOException When template not found or has syntax errors
+     */
+    public SlotParams freeze(final Params params) throws IOException {
+        return this.freeze(params, Params.WRAPPER);
+    }
+
+    /**
+     * Freeze params for this template with wrapper.
+     * Pass the same wrapper that params were created with, so frozen params
+     * give template the same models as params do.
+     * @param params Params
+     * @param wrapper Wrapper of param values
+     * @return Params frozen for this template
+     * @throws IOException When template not found or has syntax errors
+     */
+    public SlotParams freeze(final Params params, final ObjectWrapper wrapper)
+        throws IOException {
+        return this.renderer().freeze(params, wrapper);
+    }
+
+    /**
+     * Compiled or not.
+     * @return True when template is rendered without freemarker interpreter
+     * @throws IOException When template not found or has syntax errors
+     */
+    public boolean compiled() throws IOException {
+        return this.renderer().compiled();
+    }
+
+    /**
+     * Remove leading and trailing whitespaces in place, the same as trim does.
+     * @param out Rendered text
+     */
+    private static void trim(final StringBuilder out) {
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) <= ' ') {
+            end -= 1;
+        }
+        out.setLength(end);
+        int start = 0;
+        while (start < end && out.charAt(start) <= ' ') {
+            start += 1;
+        }
+        out.delete(0, start);
+    }
+
+    /**
+     * Renderer of template, compiled once per template.
+     * @return Renderer
+     * @throws IOException When template not found or has syntax errors
+     */
+    private Renderer renderer() throws IOException {
+        final Map.Entry<FtlConfig, String> key = Map.entry(this.config, this.name);
+        Renderer result = CompiledQuery.RENDERERS.getIfPresent(key);
+        if (result == null) {
+            final Template template = this.config.template(this.name);
+            try {
+                result = new Compiler(template).renderer();
+            } catch (final Unsupported ex) {
+                result = new Renderer(template);
+            }
+            CompiledQuery.RENDERERS.put(key, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.compiled;
+
+import freemarker.core.MarkupOutputFormat;
+import freemarker.core.TemplateElement;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateCollectionModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelIterator;
+import freemarker.template.TemplateNumberModel;
+import freemarker.template.TemplateScalarModel;
+import freemarker.template.TemplateSequenceModel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiler of parsed freemarker template into chain of lambdas.
+ * Walks template tree that freemarker built (with white-space already stripped)
+ * and supports static text, comments, ${} interpolation, #if/#elseif/#else
+ * and #list with single loop variable.
+ * Template tree is internal API of freemarker, deprecated for public use and not
+ * stable between releases. It is used only in this class, deprecation warnings are
+ * suppressed here on purpose, and the tree is compiled only with freemarker version
+ * this library is built with and pins in its pom. With any other version every
+ * template is rendered by interpreter.
+ *
+ * @since 0.1.0
+ */
+@SuppressWarnings("deprecation")
+final class Compiler {
+    /**
+     * Directive #list with loop variable.
+     */
+    private static final Pattern LISTING = Pattern.compile(
+        "#list (.+) as ([A-Za-z_$][A-Za-z0-9_$]*)"
+    );
+
+    /**
+     * Compiled template.
+     */
+    private final Template template;
+
+    /**
+     * Names of loop variables in scope by loop depth.
+     */
+    private final List<String> loops;
+
+    /**
+     * Slots of top level variables by name.
+     */
+    private final Map<String, Integer> slots;
+
+    /**
+     * Maximal depth of nested loops.
+     */
+    private int depth;
+
+    Compiler(final Template template) {
+        this.template = template;
+        this.loops = new ArrayList<>(2);
+        this.slots = new LinkedHashMap<>(16);
+    }
+
+    /**
+     * Compile template.
+     * @return Renderer of template
+     * @throws Unsupported When template is not supported by compiler
+     */
+    Renderer renderer() throws Unsupported {
+        if (Configuration.getVersion().intValue() != Configuration.VERSION_2_3_32.intValue()) {
+            throw new Unsupported("Template tree of this freemarker version is not supported");
+        }
+        if (!"number".equals(this.template.getNumberFormat())
+            || this.template.getOutputFormat() instanceof MarkupOutputFormat
+            || this.template.isClassicCompatible()) {
+            throw new Unsupported("Template settings are not supported");
+        }
+        final TemplateElement root = this.template.getRootTreeNode();
+        final Chunk chunk;
+        if (root == null) {
+            chunk = Chunk.EMPTY;
+        } else {
+            chunk = this.chunk(root);
+        }
+        return new Renderer(this.template, chunk, this.depth, new Slots(this.slots.keySet()));
+    }
+
+    /**
+     * Compile template element.
+     * @param element Element
+     * @return Compiled chunk
+     * @throws Unsupported When element is not supported
+     * @checkstyle CyclomaticComplexityCheck (40 lines)
+     */
+    private Chunk chunk(final TemplateElement element) throws Unsupported {
+        final String type = element.getNodeName();
+        final Chunk result;
+        if ("MixedContent".equals(type)) {
+            result = this.children(element, 0);
+        } else if ("TextBlock".equals(type)) {
+            result = Compiler.text(element);
+        } else if ("Comment".equals(type)) {
+            result = Chunk.EMPTY;
+        } else if ("DollarVariable".equals(type)) {
+            result = this.interpolation(element);
+        } else if ("IfBlock".equals(type)) {
+            result = this.branches(element, 0);
+        } else if ("ConditionalBlock".equals(type)) {
+            result = this.branch(element, Chunk.EMPTY);
+        } else if ("IteratorBlock".equals(type)) {
+            result = this.list(element);
+        } else {
+            throw new Unsupported(String.format("Directive %s is not supported", type));
+        }
+        return result;
+    }
+
+    /**
+     * Compile children of element starting from index.
+     * @param element Parent element
+     * @param from First child index
+     * @return Compiled chunk
+     * @throws Unsupported When child is not supported
+     */
+    private Chunk children(final TemplateElement element, final int from) throws Unsupported {
+        final List<Chunk> chunks = new ArrayList<>(element.getChildCount());
+        for (int idx = from; idx < element.getChildCount(); idx += 1) {
+            final Chunk chunk = this.chunk((TemplateElement) element.getChildAt(idx));
+            if (chunk != Chunk.EMPTY) {
+                chunks.add(chunk);
+            }
+        }
+        final Chunk result;
+        if (chunks.isEmpty()) {
+            result = Chunk.EMPTY;
+        } else if (chunks.size() == 1) {
+            result = chunks.get(0);
+        } else {
+            final Chunk[] all = chunks.toArray(new Chunk[0]);
+            result = (scope, out) -> {
+                for (final Chunk chunk : all) {
+                    chunk.render(scope, out);
+                }
+            };
+        }
+        return result;
+    }
+
+    /**
+     * Compile ${} interpolation.
+     * @param element Interpolation element
+     * @return Compiled chunk
+     * @throws Unsupported When expression is not supported
+     */
+    private Chunk interpolation(final TemplateElement element) throws Unsupported {
+        final String canonical = element.getCanonicalForm();
+        if (!canonical.startsWith("${") || !canonical.endsWith("}")) {
+            throw new Unsupported(String.format("Interpolation %s is not supported", canonical));
+        }
+        final Expr expr = new Parser(
+            canonical.substring(2, canonical.length() - 1), this.loops, this.slots
+        ).value();
+        return (scope, out) -> {
+            final TemplateModel model = expr.eval(scope);
+            if (model instanceof TemplateNumberModel) {
+                out.append(scope.format((TemplateNumberModel) model));
+            } else if (model instanceof TemplateScalarModel) {
+                final String str = ((TemplateScalarModel) model).getAsString();
+                if (str == null) {
+                    throw Bailout.INSTANCE;
+                }
+                out.append(str);
+            } else {
+                throw Bailout.INSTANCE;
+            }
+        };
+    }
+
+    /**
+     * Compile #if/#elseif/#else branches starting from index.
+     * @param element If block element
+     * @param from First branch index
+     * @return Compiled chunk
+     * @throws Unsupported When branch is not supported
+     */
+    private Chunk branches(final TemplateElement element, final int from) throws Unsupported {
+        final Chunk result;
+        if (from >= element.getChildCount()) {
+            result = Chunk.EMPTY;
+        } else {
+            result = this.branch(
+                (TemplateElement) element.getChildAt(from),
+                this.branches(element, from + 1)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Compile single conditional branch.
+     * @param element Conditional block element
+     * @param otherwise Chunk rendered when condition is not satisfied
+     * @return Compiled chunk
+     * @throws Unsupported When condition is not supported
+     */
+    private Chunk branch(final TemplateElement element, final Chunk otherwise)
+        throws Unsupported {
+        final String description = element.getDescription();
+        final Chunk body = this.children(element, 0);
+        final Chunk result;
+        if ("#else".equals(description)) {
+            result = body;
+        } else if (description.startsWith("#if ") || description.startsWith("#elseif ")) {
+            final Cond cond = new Parser(
+                description.substring(description.indexOf(' ') + 1), this.loops, this.slots
+            ).condition();
+            result = (scope, out) -> {
+                if (cond.test(scope)) {
+                    body.render(scope, out);
+                } else {
+                    otherwise.render(scope, out);
+                }
+            };
+        } else {
+            throw new Unsupported(String.format("Directive %s is not supported", description));
+        }
+        return result;
+    }
+
+    /**
+     * Compile #list directive.
+     * @param element Iterator block element
+     * @return Compiled chunk
+     * @throws Unsupported When list is not supported
+     */
+    private Chunk list(final TemplateElement element) throws Unsupported {
+        final Matcher matcher = Compiler.LISTING.matcher(element.getDescription());
+        if (!matcher.matches()) {
+            throw new Unsupported(
+                String.format("Directive %s is not supported", element.getDescription())
+            );
+        }
+        final Expr listed = new Parser(matcher.group(1), this.loops, this.slots).value();
+        final int slot = this.loops.size();
+        this.loops.add(matcher.group(2));
+        this.depth = Math.max(this.depth, this.loops.size());
+        final Chunk body = this.children(element, 0);
+        this.loops.remove(slot);
+        return (scope, out) -> {
+            final TemplateModel model = listed.eval(scope);
+            if (model instanceof TemplateCollectionModel) {
+                final TemplateModelIterator items = ((TemplateCollectionModel) model).iterator();
+                while (items.hasNext()) {
+                    Compiler.item(scope, slot, items.next());
+                    body.render(scope, out);
+                }
+            } else if (model instanceof TemplateSequenceModel) {
+                final TemplateSequenceModel items = (TemplateSequenceModel) model;
+                final int size = items.size();
+                for (int idx = 0; idx < size; idx += 1) {
+                    Compiler.item(scope, slot, items.get(idx));
+                    body.render(scope, out);
+                }
+            } else {
+                throw Bailout.INSTANCE;
+            }
+        };
+    }
+
+    /**
+     * Set loop variable.
+     * @param scope Scope
+     * @param slot Loop depth
+     * @param item Loop variable value
+     */
+    private static void item(final Scope scope, final int slot, final TemplateModel item) {
+        if (item == null) {
+            throw Bailout.INSTANCE;
+        }
+        scope.loop(slot, item);
+    }
+
+    /**
+     * Compile static text.
+     * @param element Text block element
+     * @return Compiled chunk
+     * @throws Unsupported When text is not plain
+     */
+    private static Chunk text(final TemplateElement element) throws Unsupported {
+        final String text = element.getCanonicalForm();
+        if (text.startsWith("<#noparse>")) {
+            throw new Unsupported("Directive #noparse is not supported");
+        }
+        final Chunk result;
+        if (text.isEmpty()) {
+            result = Chunk.EMPTY;
+        } else {
+            result = (scope, out) -> out.append(text);
+        }
+        return result;
+    }
+}
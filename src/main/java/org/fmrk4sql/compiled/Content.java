@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.compiled;
+
+import freemarker.ext.beans.BeanModel;
+import freemarker.template.TemplateBooleanModel;
+import freemarker.template.TemplateCollectionModel;
+import freemarker.template.TemplateDateModel;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateNumberModel;
+import freemarker.template.TemplateScalarModel;
+import freemarker.template.TemplateSequenceModel;
+
+/**
+ * Built-in ?has_content, checks emptiness the same way freemarker does.
+ *
+ * @since 0.1.0
+ */
+final class Content implements Expr {
+    /**
+     * Checked expression.
+     */
+    private final Expr target;
+
+    Content(final Expr target) {
+        this.target = target;
+    }
+
+    @Override
+    public TemplateModel eval(final Scope scope) throws TemplateModelException {
+        final TemplateModel result;
+        if (Content.empty(this.target.eval(scope))) {
+            result = TemplateBooleanModel.FALSE;
+        } else {
+            result = TemplateBooleanModel.TRUE;
+        }
+        return result;
+    }
+
+    /**
+     * Emptiness of model.
+     * @param model Model or null when value is missing
+     * @return True when model has no content
+     * @throws TemplateModelException When model can not be checked
+     * @checkstyle CyclomaticComplexityCheck (30 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static boolean empty(final TemplateModel model) throws TemplateModelException {
+        final boolean result;
+        if (model instanceof BeanModel) {
+            result = ((BeanModel) model).isEmpty();
+        } else if (model instanceof TemplateSequenceModel) {
+            result = ((TemplateSequenceModel) model).size() == 0;
+        } else if (model instanceof TemplateScalarModel) {
+            final String str = ((TemplateScalarModel) model).getAsString();
+            result = str == null || str.isEmpty();
+        } else if (model == null) {
+            result = true;
+        } else if (model instanceof TemplateCollectionModel) {
+            result = !((TemplateCollectionModel) model).iterator().hasNext();
+        } else if (model instanceof TemplateHashModel) {
+            result = ((TemplateHashModel) model).isEmpty();
+        } else if (model instanceof TemplateNumberModel
+            || model instanceof TemplateDateModel
+            || model instanceof TemplateBooleanModel) {
+            result = false;
+        } else {
+            throw Bailout.INSTANCE;
+        }
+        return result;
+    }
+}
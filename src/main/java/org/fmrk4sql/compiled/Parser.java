@@ -0,0 +1,238 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.compiled;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parser of freemarker expressions in canonical form.
+ * Supports variables, hash keys, method calls without arguments, ?has_content,
+ * comparison with boolean literals, !, &amp;&amp;, || and parentheses.
+ * Everything else is reported as unsupported.
+ *
+ * @since 0.1.0
+ */
+final class Parser {
+    /**
+     * Suffixes of legacy special loop variables.
+     */
+    private static final Set<String> SUFFIXES = Set.of("_index", "_has_next");
+
+    /**
+     * Expression tokens.
+     */
+    private final Tokens tokens;
+
+    /**
+     * Names of loop variables by loop depth.
+     */
+    private final List<String> loops;
+
+    /**
+     * Slots of top level variables, new variables are added in order of reference.
+     */
+    private final Map<String, Integer> slots;
+
+    Parser(final String text, final List<String> loops, final Map<String, Integer> slots)
+        throws Unsupported {
+        this.tokens = new Tokens(text);
+        this.loops = loops;
+        this.slots = slots;
+    }
+
+    /**
+     * Parse value expression.
+     * @return Compiled expression
+     * @throws Unsupported When expression is not supported
+     */
+    Expr value() throws Unsupported {
+        final Expr result = this.operand();
+        this.tokens.end();
+        return result;
+    }
+
+    /**
+     * Parse boolean condition.
+     * @return Compiled condition
+     * @throws Unsupported When expression is not supported
+     */
+    Cond condition() throws Unsupported {
+        final Cond result = this.disjunction();
+        this.tokens.end();
+        return result;
+    }
+
+    /**
+     * Parse sequence of conditions joined with ||.
+     * @return Compiled condition
+     * @throws Unsupported When expression is not supported
+     */
+    private Cond disjunction() throws Unsupported {
+        Cond result = this.conjunction();
+        while (this.tokens.next("||")) {
+            final Cond left = result;
+            final Cond right = this.conjunction();
+            result = scope -> left.test(scope) || right.test(scope);
+        }
+        return result;
+    }
+
+    /**
+     * Parse sequence of conditions joined with &amp;&amp;.
+     * @return Compiled condition
+     * @throws Unsupported When expression is not supported
+     */
+    private Cond conjunction() throws Unsupported {
+        Cond result = this.negation();
+        while (this.tokens.next("&&")) {
+            final Cond left = result;
+            final Cond right = this.negation();
+            result = scope -> left.test(scope) && right.test(scope);
+        }
+        return result;
+    }
+
+    /**
+     * Parse negated or simple condition.
+     * @return Compiled condition
+     * @throws Unsupported When expression is not supported
+     */
+    private Cond negation() throws Unsupported {
+        final Cond result;
+        if (this.tokens.next("!")) {
+            final Cond origin = this.negation();
+            result = scope -> !origin.test(scope);
+        } else if (this.tokens.next("(")) {
+            result = this.disjunction();
+            this.tokens.expect(")");
+        } else {
+            result = this.comparison();
+        }
+        return result;
+    }
+
+    /**
+     * Parse boolean operand optionally compared with boolean literal.
+     * @return Compiled condition
+     * @throws Unsupported When expression is not supported
+     */
+    private Cond comparison() throws Unsupported {
+        final Expr operand = this.operand();
+        final Cond result;
+        if (this.tokens.next("==") || this.tokens.next("=")) {
+            result = new Truth(operand, this.literal());
+        } else if (this.tokens.next("!=")) {
+            result = new Truth(operand, !this.literal());
+        } else {
+            result = new Truth(operand);
+        }
+        return result;
+    }
+
+    /**
+     * Parse variable with hash keys, method calls and ?has_content.
+     * @return Compiled expression
+     * @throws Unsupported When expression is not supported
+     */
+    private Expr operand() throws Unsupported {
+        final String name = this.tokens.identifier();
+        if ("true".equals(name) || "false".equals(name)) {
+            throw new Unsupported("Boolean literal is supported only in comparison");
+        }
+        Expr result = this.variable(name);
+        while (this.tokens.more()) {
+            if (this.tokens.next(".")) {
+                result = new Key(result, this.tokens.identifier());
+            } else if (this.tokens.next("(")) {
+                this.tokens.expect(")");
+                result = new Call(result);
+            } else if (this.tokens.next("?")) {
+                if (!"has_content".equals(this.tokens.identifier())) {
+                    throw new Unsupported("Only ?has_content built-in is supported");
+                }
+                result = new Content(result);
+            } else {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Top level variable, loop variable first.
+     * Every top level variable gets slot on first reference. Only legacy special loop
+     * variables, like item_index and item_has_next, are rejected, other variables
+     * may start with loop variable name. Built-ins like item?index are rejected
+     * by {@link #operand()}.
+     * @param name Variable name
+     * @return Compiled expression
+     * @throws Unsupported When name refers to special loop variable
+     */
+    private Expr variable(final String name) throws Unsupported {
+        Expr result = null;
+        for (int depth = this.loops.size() - 1; depth >= 0; depth -= 1) {
+            final String loop = this.loops.get(depth);
+            if (loop.equals(name)) {
+                final int slot = depth;
+                result = scope -> scope.loop(slot);
+                break;
+            }
+            if (Parser.special(name, loop)) {
+                throw new Unsupported(String.format("Loop variable %s is not supported", name));
+            }
+        }
+        if (result == null) {
+            final int slot = this.slots.computeIfAbsent(name, key -> this.slots.size());
+            result = scope -> scope.variable(slot, name);
+        }
+        return result;
+    }
+
+    /**
+     * Boolean literal.
+     * @return Literal value
+     * @throws Unsupported When there is no boolean literal
+     */
+    private boolean literal() throws Unsupported {
+        final String token = this.tokens.identifier();
+        if (!"true".equals(token) && !"false".equals(token)) {
+            throw new Unsupported("Only comparison with boolean literal is supported");
+        }
+        return Boolean.parseBoolean(token);
+    }
+
+    /**
+     * Legacy special loop variable or not.
+     * @param name Variable name
+     * @param loop Loop variable name
+     * @return True for loop variable name followed by _index or _has_next
+     */
+    private static boolean special(final String name, final String loop) {
+        return name.startsWith(loop) && Parser.SUFFIXES.contains(name.substring(loop.length()));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.compiled;
+
+import freemarker.template.ObjectWrapper;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModelException;
+import java.io.IOException;
+import java.io.Writer;
+import java.text.NumberFormat;
+import org.fmrk4sql.Buffers;
+import org.fmrk4sql.BuilderWriter;
+import org.fmrk4sql.Params;
+
+/**
+ * Renderer of single template.
+ * Uses compiled chunk when template is supported by compiler and falls back
+ * to freemarker interpreter when it is not or when compiled chunk bails out.
+ *
+ * @since 0.1.0
+ */
+final class Renderer {
+    /**
+     * Freemarker template.
+     */
+    private final Template template;
+
+    /**
+     * Compiled template or null when template is not supported.
+     */
+    private final Chunk chunk;
+
+    /**
+     * Number format of template, the same as freemarker "number" format.
+     */
+    private final NumberFormat numbers;
+
+    /**
+     * Maximal depth of nested loops.
+     */
+    private final int depth;
+
+    /**
+     * Slots of top level variables.
+     */
+    private final Slots slots;
+
+    Renderer(final Template template) {
+        this(template, null, 0, Slots.EMPTY);
+    }
+
+    /**
+     * Ctor.
+     * @param template Freemarker template
+     * @param chunk Compiled template or null when template is not supported
+     * @param depth Maximal depth of nested loops
+     * @param slots Slots of top level variables
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Renderer(final Template template, final Chunk chunk, final int depth, final Slots slots) {
+        this.template = template;
+        this.chunk = chunk;
+        this.numbers = NumberFormat.getNumberInstance(template.getLocale());
+        this.depth = depth;
+        this.slots = slots;
+    }
+
+    /**
+     * Render template into builder.
+     * Output of bailed out chunk is removed before interpreter renders template again.
+     * Params read by bailed out chunk are read again by interpreter, see {@link Bailout}.
+     * @param params Template params
+     * @param out Output
+     * @throws IOException When interpreter can not write output
+     * @throws TemplateException When template can not be rendered
+     */
+    void render(final TemplateHashModel params, final StringBuilder out)
+        throws IOException, TemplateException {
+        final int start = out.length();
+        if (this.chunk == null || !this.rendered(params, out)) {
+            out.setLength(start);
+            this.template.process(params, new BuilderWriter(out));
+        }
+    }
+
+    /**
+     * Render template into writer.
+     * Compiled chunk renders into builder borrowed from {@link Buffers#SHARED} first,
+     * so nothing is written to output when chunk bails out and interpreter renders
+     * template again. Template that is not compiled is streamed by interpreter.
+     * @param params Template params
+     * @param out Output
+     * @throws IOException When output can not be written
+     * @throws TemplateException When template can not be rendered
+     */
+    void render(final TemplateHashModel params, final Writer out)
+        throws IOException, TemplateException {
+        if (this.chunk == null) {
+            this.template.process(params, out);
+        } else {
+            Buffers.SHARED.write(this, buffer -> this.render(params, buffer), out);
+        }
+    }
+
+    /**
+     * Params frozen for this template.
+     * @param params Params
+     * @param wrapper Wrapper of frozen param values
+     * @return Frozen params
+     */
+    SlotParams freeze(final Params params, final ObjectWrapper wrapper) {
+        return new SlotParams(params, this.slots, wrapper);
+    }
+
+    /**
+     * Compiled or not.
+     * @return True when template is rendered without interpreter
+     */
+    boolean compiled() {
+        return this.chunk != null;
+    }
+
+    /**
+     * Render template with compiled chunk.
+     * Any failure of params or values is repeated by interpreter, so caller
+     * gets exactly the same error as without compilation.
+     * @param params Template params
+     * @param out Output
+     * @return True when template is rendered, false when compiled chunk bailed out
+     * @checkstyle IllegalCatchCheck (15 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private boolean rendered(final TemplateHashModel params, final StringBuilder out) {
+        boolean result;
+        try {
+            this.chunk.render(
+                new Scope(params, this.template, this.numbers, this.depth, this.slots), out
+            );
+            result = true;
+        } catch (final TemplateModelException | RuntimeException ex) {
+            result = false;
+        }
+        return result;
+    }
+}
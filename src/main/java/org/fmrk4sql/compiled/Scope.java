@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.compiled;
+
+import freemarker.template.Template;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateNumberModel;
+import java.text.NumberFormat;
+import org.fmrk4sql.val.NumVal;
+
+/**
+ * Variables visible to compiled template during single render.
+ * Resolves names the same way freemarker environment does for templates
+ * without assignments: loop variables, then params, then configuration's
+ * shared variables.
+ *
+ * @since 0.1.0
+ */
+final class Scope {
+    /**
+     * Template params.
+     */
+    private final TemplateHashModel params;
+
+    /**
+     * Rendered template.
+     */
+    private final Template template;
+
+    /**
+     * Current values of loop variables by loop depth.
+     */
+    private final TemplateModel[] loops;
+
+    /**
+     * Slots of top level variables of rendered template.
+     */
+    private final Slots slots;
+
+    /**
+     * Shared number format of template, never used directly as it is not thread-safe.
+     */
+    private final NumberFormat prototype;
+
+    /**
+     * Number format of this render, cloned on first number output.
+     */
+    private NumberFormat numbers;
+
+    /**
+     * Ctor.
+     * @param params Template params
+     * @param template Rendered template
+     * @param prototype Shared number format of template
+     * @param depth Maximal depth of nested loops
+     * @param slots Slots of top level variables
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Scope(
+        final TemplateHashModel params, final Template template,
+        final NumberFormat prototype, final int depth, final Slots slots
+    ) {
+        this.params = params;
+        this.template = template;
+        this.prototype = prototype;
+        this.loops = new TemplateModel[depth];
+        this.slots = slots;
+    }
+
+    /**
+     * Top level variable.
+     * Params frozen for rendered template are read by slot, other params by name.
+     * @param slot Variable slot
+     * @param name Variable name
+     * @return Value or null when variable is missing
+     * @throws TemplateModelException When params can not provide value
+     */
+    TemplateModel variable(final int slot, final String name) throws TemplateModelException {
+        TemplateModel result;
+        if (this.params instanceof SlotParams && ((SlotParams) this.params).frozen(this.slots)) {
+            result = ((SlotParams) this.params).model(slot, name);
+        } else {
+            result = this.params.get(name);
+        }
+        if (result == null) {
+            result = this.template.getConfiguration().getSharedVariable(name);
+        }
+        return result;
+    }
+
+    /**
+     * Current value of loop variable.
+     * @param depth Loop depth
+     * @return Value
+     */
+    TemplateModel loop(final int depth) {
+        return this.loops[depth];
+    }
+
+    /**
+     * Change current value of loop variable.
+     * @param depth Loop depth
+     * @param value New value
+     */
+    void loop(final int depth, final TemplateModel value) {
+        this.loops[depth] = value;
+    }
+
+    /**
+     * Wrap result of java method call.
+     * @param value Java object
+     * @return Template model
+     * @throws TemplateModelException When object can not be wrapped
+     */
+    TemplateModel wrap(final Object value) throws TemplateModelException {
+        return this.template.getObjectWrapper().wrap(value);
+    }
+
+    /**
+     * Format number with template's locale, as freemarker "number" format does.
+     * Primitive-backed values are formatted without boxing.
+     * @param number Number
+     * @return Formatted number
+     * @throws TemplateModelException When model has no number
+     */
+    String format(final TemplateNumberModel number) throws TemplateModelException {
+        final String result;
+        if (number instanceof NumVal) {
+            result = ((NumVal) number).format(this.formatter());
+        } else {
+            final Number value = number.getAsNumber();
+            if (value == null) {
+                throw Bailout.INSTANCE;
+            }
+            result = this.formatter().format(value);
+        }
+        return result;
+    }
+
+    /**
+     * Number format of this render.
+     * @return Number format
+     */
+    private NumberFormat formatter() {
+        if (this.numbers == null) {
+            this.numbers = (NumberFormat) this.prototype.clone();
+        }
+        return this.numbers;
+    }
+}
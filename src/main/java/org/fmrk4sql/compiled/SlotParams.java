@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.compiled;
+
+import com.google.common.hash.HashCode;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.fmrk4sql.Models;
+import org.fmrk4sql.Param;
+import org.fmrk4sql.Params;
+
+/**
+ * Params frozen for single compiled template.
+ * Params of every variable of the template are resolved once, when params are frozen,
+ * and stored in array by variable slots. Compiled renderer reads frozen variables
+ * by slot, without hashing and string comparison. Values of frozen params are
+ * wrapped lazily by wrapper of frozen params, on first reference, once per variable,
+ * so origin is not asked by name again. Missing variables are known up front,
+ * see {@link #missing()}. Params frozen with own wrapper have no fingerprint,
+ * as origin fingerprint does not know that wrapper.
+ * Created by {@link CompiledQuery#freeze(Params)}.
+ * Thread-safe, when origin params are thread-safe.
+ *
+ * @since 0.1.0
+ */
+public final class SlotParams implements Params {
+    /**
+     * Origin params.
+     */
+    private final Params origin;
+
+    /**
+     * Slots of template, which params are frozen for.
+     */
+    private final Slots slots;
+
+    /**
+     * Params by slot, null for missing params.
+     */
+    private final Param[] params;
+
+    /**
+     * Wrapped models by slot, filled on first reference.
+     */
+    private final AtomicReferenceArray<TemplateModel> models;
+
+    /**
+     * Wrapper of frozen param values.
+     */
+    private final ObjectWrapper wrapper;
+
+    SlotParams(final Params origin, final Slots slots, final ObjectWrapper wrapper) {
+        this.origin = origin;
+        this.slots = slots;
+        this.wrapper = wrapper;
+        this.params = SlotParams.resolved(origin, slots.names());
+        this.models = new AtomicReferenceArray<>(this.params.length);
+    }
+
+    @Override
+    public TemplateModel get(final String name) throws TemplateModelException {
+        final Integer slot = this.slots.slot(name);
+        final TemplateModel result;
+        if (slot == null) {
+            result = this.origin.get(name);
+        } else {
+            result = this.model(slot, name);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty() throws TemplateModelException {
+        return this.origin.isEmpty();
+    }
+
+    @Override
+    public Params with(final Param param) {
+        return new SlotParams(this.origin.with(param), this.slots, this.wrapper);
+    }
+
+    @Override
+    public HashCode fingerprint() {
+        HashCode result = null;
+        if (Params.WRAPPER.equals(this.wrapper)) {
+            result = this.origin.fingerprint();
+        }
+        return result;
+    }
+
+    @Override
+    public Collection<Param> list() {
+        return this.origin.list();
+    }
+
+    @Override
+    public Param param(final String name) {
+        return this.origin.param(name);
+    }
+
+    /**
+     * Names of template variables, which params do not have.
+     * Such variables are either shared variables of configuration, or
+     * optional variables of template, or mistakes in params.
+     * @return Variable names
+     */
+    public Set<String> missing() {
+        final Set<String> result = new LinkedHashSet<>(0);
+        for (int slot = 0; slot < this.params.length; slot += 1) {
+            if (this.params[slot] == null) {
+                result.add(this.slots.names().get(slot));
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Frozen for slots or not.
+     * @param other Slots of template
+     * @return True when params are frozen for exactly these slots
+     */
+    boolean frozen(final Slots other) {
+        return this.slots == other;
+    }
+
+    /**
+     * Template model of variable by slot.
+     * Frozen param is wrapped from slot, missing variable is asked from origin by name.
+     * @param slot Variable slot
+     * @param name Variable name
+     * @return Template model or null when params have no variable
+     * @throws TemplateModelException When value can not be wrapped
+     */
+    TemplateModel model(final int slot, final String name) throws TemplateModelException {
+        TemplateModel result = this.models.get(slot);
+        if (result == null) {
+            if (this.params[slot] == null) {
+                result = this.origin.get(name);
+            } else {
+                this.models.compareAndSet(
+                    slot, null, Models.wrapped(this.params[slot].value(), this.wrapper)
+                );
+                result = this.models.get(slot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Params of variables by slot.
+     * @param origin Origin params
+     * @param names Variable names by slot
+     * @return Params, null for missing params
+     */
+    private static Param[] resolved(final Params origin, final List<String> names) {
+        final Param[] result = new Param[names.size()];
+        for (int slot = 0; slot < result.length; slot += 1) {
+            result[slot] = origin.param(names.get(slot));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.compiled;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Slots of top level variables of compiled template.
+ * Compiler assigns every referenced variable an index in order of first reference,
+ * so variables of {@link SlotParams} frozen for the template are read by index.
+ *
+ * @since 0.1.0
+ */
+final class Slots {
+    /**
+     * Slots of template without compiled variables.
+     */
+    static final Slots EMPTY = new Slots(Collections.emptyList());
+
+    /**
+     * Variable names by slot.
+     */
+    private final List<String> variables;
+
+    /**
+     * Slots by variable name.
+     */
+    private final Map<String, Integer> index;
+
+    Slots(final Collection<String> names) {
+        this(List.copyOf(names));
+    }
+
+    private Slots(final List<String> variables) {
+        this.variables = variables;
+        this.index = IntStream.range(0, variables.size()).boxed()
+            .collect(Collectors.toUnmodifiableMap(variables::get, slot -> slot));
+    }
+
+    /**
+     * Variable names.
+     * @return Variable names by slot
+     */
+    List<String> names() {
+        return this.variables;
+    }
+
+    /**
+     * Slot of variable.
+     * @param name Variable name
+     * @return Slot or null when template does not reference variable
+     */
+    Integer slot(final String name) {
+        return this.index.get(name);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.compiled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tokens of freemarker expression in canonical form.
+ *
+ * @since 0.1.0
+ */
+final class Tokens {
+    /**
+     * Expression token.
+     */
+    private static final Pattern TOKEN = Pattern.compile(
+        "\\s*([A-Za-z_$][A-Za-z0-9_$]*|&&|\\|\\||==|!=|[.()?!=])"
+    );
+
+    /**
+     * All tokens of expression.
+     */
+    private final List<String> all;
+
+    /**
+     * Position of current token.
+     */
+    private int pos;
+
+    Tokens(final String text) throws Unsupported {
+        this.all = Tokens.tokenized(text);
+    }
+
+    /**
+     * Are there tokens left.
+     * @return True when not all tokens are consumed
+     */
+    boolean more() {
+        return this.pos < this.all.size();
+    }
+
+    /**
+     * Identifier token.
+     * @return Identifier
+     * @throws Unsupported When current token is not identifier
+     */
+    String identifier() throws Unsupported {
+        if (this.pos >= this.all.size()
+            || !Character.isJavaIdentifierStart(this.all.get(this.pos).charAt(0))) {
+            throw new Unsupported("Identifier expected");
+        }
+        final String result = this.all.get(this.pos);
+        this.pos += 1;
+        return result;
+    }
+
+    /**
+     * Skip token when it is current.
+     * @param token Expected token
+     * @return True when token was skipped
+     */
+    boolean next(final String token) {
+        final boolean result = this.pos < this.all.size()
+            && token.equals(this.all.get(this.pos));
+        if (result) {
+            this.pos += 1;
+        }
+        return result;
+    }
+
+    /**
+     * Skip required token.
+     * @param token Expected token
+     * @throws Unsupported When token is absent
+     */
+    void expect(final String token) throws Unsupported {
+        if (!this.next(token)) {
+            throw new Unsupported(String.format("Token %s expected", token));
+        }
+    }
+
+    /**
+     * Check that all tokens are parsed.
+     * @throws Unsupported When there are tokens left
+     */
+    void end() throws Unsupported {
+        if (this.pos != this.all.size()) {
+            throw new Unsupported("Unexpected tokens at the end of expression");
+        }
+    }
+
+    /**
+     * Split expression to tokens.
+     * @param text Expression
+     * @return Tokens
+     * @throws Unsupported When expression has unsupported tokens
+     */
+    private static List<String> tokenized(final String text) throws Unsupported {
+        final List<String> result = new ArrayList<>(8);
+        final Matcher matcher = Tokens.TOKEN.matcher(text);
+        int end = 0;
+        while (matcher.find() && matcher.start() == end) {
+            result.add(matcher.group(1));
+            end = matcher.end();
+        }
+        if (!text.substring(end).isBlank()) {
+            throw new Unsupported(String.format("Expression %s is not supported", text));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.compiled;
+
+import freemarker.template.TemplateBooleanModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+
+/**
+ * Boolean value of expression, optionally compared with boolean literal.
+ *
+ * @since 0.1.0
+ */
+final class Truth implements Cond {
+    /**
+     * Boolean expression.
+     */
+    private final Expr expr;
+
+    /**
+     * Expected value.
+     */
+    private final boolean expected;
+
+    Truth(final Expr expr) {
+        this(expr, true);
+    }
+
+    Truth(final Expr expr, final boolean expected) {
+        this.expr = expr;
+        this.expected = expected;
+    }
+
+    @Override
+    public boolean test(final Scope scope) throws TemplateModelException {
+        final TemplateModel model = this.expr.eval(scope);
+        if (!(model instanceof TemplateBooleanModel)) {
+            throw Bailout.INSTANCE;
+        }
+        return ((TemplateBooleanModel) model).getAsBoolean() == this.expected;
+    }
+}
@@ -25,17 +25,19 @@
 
 package org.fmrk4sql.val;
 
+import freemarker.template.TemplateBooleanModel;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.fmrk4sql.Value;
 
 /**
  * Fmrk4sql boolean value for queries.
+ * Acts as freemarker boolean model itself, so params give it to template without wrapping.
  * @since 0.1.0
  */
 @EqualsAndHashCode
 @ToString
-public final class BoolVal implements Value<Boolean, Boolean> {
+public final class BoolVal implements Value<Boolean, Boolean>, TemplateBooleanModel {
 
     /**
      * Stored value of fmrk4sql wrapper.
@@ -61,4 +63,9 @@ public final class BoolVal implements Value<Boolean, Boolean> {
         }
         return this.value;
     }
+
+    @Override
+    public boolean getAsBoolean() {
+        return this.val();
+    }
 }
@@ -25,40 +25,94 @@
 
 package org.fmrk4sql.val;
 
+import java.text.NumberFormat;
 import lombok.EqualsAndHashCode;
-import lombok.ToString;
 import org.fmrk4sql.Value;
 
 /**
  * Fmrk4sql double value for queries.
+ * Acts as freemarker number model itself, so params give it to template without wrapping.
+ * Value is stored as primitive, so it is not boxed until {@link #val()} is called.
  * @since 0.1.0
  */
 @EqualsAndHashCode
-@ToString
-public final class DblVal implements Value<Double, Double> {
+public final class DblVal implements Value<Double, Double>, NumVal {
 
     /**
      * Stored value of fmrk4sql wrapper.
      */
-    private final Double value;
+    private final double value;
+
+    /**
+     * Value is set or null.
+     */
+    private final boolean present;
+
+    public DblVal(final double value) {
+        this(value, true);
+    }
 
     public DblVal(final Double value) {
+        this(DblVal.unboxed(value), value != null);
+    }
+
+    private DblVal(final double value, final boolean present) {
         this.value = value;
+        this.present = present;
     }
 
     @Override
     public Double val() {
-        if (this.value == null) {
-            throw new IllegalArgumentException("Value cannot be null");
-        }
-        return this.value;
+        return this.asDouble();
     }
 
     @Override
     public Double convert() {
-        if (this.value == null) {
+        return this.asDouble();
+    }
+
+    @Override
+    public Number getAsNumber() {
+        return this.val();
+    }
+
+    @Override
+    public String format(final NumberFormat format) {
+        return format.format(this.asDouble());
+    }
+
+    @Override
+    public String toString() {
+        final String text;
+        if (this.present) {
+            text = String.valueOf(this.value);
+        } else {
+            text = "null";
+        }
+        return String.format("DblVal(value=%s)", text);
+    }
+
+    /**
+     * Stored value without boxing.
+     * @return Value
+     */
+    public double asDouble() {
+        if (!this.present) {
             throw new IllegalArgumentException("Value cannot be null");
         }
         return this.value;
     }
+
+    /**
+     * Primitive of boxed value, zero for null.
+     * @param value Boxed value
+     * @return Primitive value
+     */
+    private static double unboxed(final Double value) {
+        double result = 0.0;
+        if (value != null) {
+            result = value;
+        }
+        return result;
+    }
 }
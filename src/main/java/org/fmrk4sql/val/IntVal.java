@@ -25,40 +25,94 @@
 
 package org.fmrk4sql.val;
 
+import java.text.NumberFormat;
 import lombok.EqualsAndHashCode;
-import lombok.ToString;
 import org.fmrk4sql.Value;
 
 /**
  * Fmrk4sql integer value for queries.
+ * Acts as freemarker number model itself, so params give it to template without wrapping.
+ * Value is stored as primitive, so it is not boxed until {@link #val()} is called.
  * @since 0.1.0
  */
 @EqualsAndHashCode
-@ToString
-public final class IntVal implements Value<Integer, Integer> {
+public final class IntVal implements Value<Integer, Integer>, NumVal {
 
     /**
      * Stored value of fmrk4sql wrapper.
      */
-    private final Integer value;
+    private final int value;
 
-    public IntVal(final Integer val) {
-        this.value = val;
+    /**
+     * Value is set or null.
+     */
+    private final boolean present;
+
+    public IntVal(final int value) {
+        this(value, true);
+    }
+
+    public IntVal(final Integer value) {
+        this(IntVal.unboxed(value), value != null);
+    }
+
+    private IntVal(final int value, final boolean present) {
+        this.value = value;
+        this.present = present;
     }
 
     @Override
     public Integer val() {
-        if (this.value == null) {
-            throw new IllegalArgumentException("Value cannot be null");
-        }
-        return this.value;
+        return this.asInt();
     }
 
     @Override
     public Integer convert() {
-        if (this.value == null) {
+        return this.asInt();
+    }
+
+    @Override
+    public Number getAsNumber() {
+        return this.val();
+    }
+
+    @Override
+    public String format(final NumberFormat format) {
+        return format.format((long) this.asInt());
+    }
+
+    @Override
+    public String toString() {
+        final String text;
+        if (this.present) {
+            text = String.valueOf(this.value);
+        } else {
+            text = "null";
+        }
+        return String.format("IntVal(value=%s)", text);
+    }
+
+    /**
+     * Stored value without boxing.
+     * @return Value
+     */
+    public int asInt() {
+        if (!this.present) {
             throw new IllegalArgumentException("Value cannot be null");
         }
         return this.value;
     }
+
+    /**
+     * Primitive of boxed value, zero for null.
+     * @param value Boxed value
+     * @return Primitive value
+     */
+    private static int unboxed(final Integer value) {
+        int result = 0;
+        if (value != null) {
+            result = value;
+        }
+        return result;
+    }
 }
@@ -25,6 +25,7 @@
 
 package org.fmrk4sql.val;
 
+import freemarker.template.TemplateDateModel;
 import java.sql.Date;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -32,11 +33,12 @@ import org.fmrk4sql.Value;
 
 /**
  * Fmrk4sql java.sql.Date value for queries.
+ * Acts as freemarker date model itself, so params give it to template without wrapping.
  * @since 0.1.0
  */
 @EqualsAndHashCode
 @ToString
-public final class JdsqlVal implements Value<Date, Date> {
+public final class JdsqlVal implements Value<Date, Date>, TemplateDateModel {
 
     /**
      * Stored value of fmrk4sql wrapper.
@@ -62,4 +64,14 @@ public final class JdsqlVal implements Value<Date, Date> {
         }
         return this.value;
     }
+
+    @Override
+    public Date getAsDate() {
+        return this.val();
+    }
+
+    @Override
+    public int getDateType() {
+        return TemplateDateModel.DATE;
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql.val;
+
+import com.google.common.base.Suppliers;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.fmrk4sql.Value;
+
+/**
+ * Fmrk4sql lazy value for queries.
+ * Value is computed on first access, when template references the param,
+ * and then memoized. Params that are used only in rarely taken branches
+ * cost nothing, when branch is not taken. Thread-safe, value is computed once.
+ * Time of computation is reported once to metrics hook, like timer of render
+ * metrics, and is available from {@link #elapsed()} afterwards.
+ * @param <T> Type of value
+ * @since 0.1.0
+ */
+public final class LazyVal<T> implements Value<T, T> {
+
+    /**
+     * Memoized value.
+     */
+    private final Supplier<T> value;
+
+    /**
+     * Nanoseconds spent on computation, negative until value is computed.
+     */
+    private final AtomicLong nanos;
+
+    public LazyVal(final Supplier<? extends T> origin) {
+        this(origin, elapsed -> { });
+    }
+
+    /**
+     * Ctor.
+     * @param origin Computation of value
+     * @param metrics Hook, which gets time of computation once value is computed
+     */
+    public LazyVal(final Supplier<? extends T> origin, final Consumer<Duration> metrics) {
+        this.nanos = new AtomicLong(-1L);
+        this.value = Suppliers.memoize(
+            () -> {
+                final long start = System.nanoTime();
+                final T result = origin.get();
+                this.nanos.set(System.nanoTime() - start);
+                metrics.accept(this.elapsed());
+                return result;
+            }
+        );
+    }
+
+    @Override
+    public T val() {
+        final T result = this.value.get();
+        if (result == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        return result;
+    }
+
+    @Override
+    public T convert() {
+        return this.val();
+    }
+
+    /**
+     * Value is computed or not.
+     * @return True when value is computed
+     */
+    public boolean computed() {
+        return this.nanos.get() >= 0L;
+    }
+
+    /**
+     * Time spent on computation of value.
+     * @return Duration, zero when value is not computed yet
+     */
+    public Duration elapsed() {
+        return Duration.ofNanos(Math.max(this.nanos.get(), 0L));
+    }
+}
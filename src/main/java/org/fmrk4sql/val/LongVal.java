@@ -25,40 +25,94 @@
 
 package org.fmrk4sql.val;
 
+import java.text.NumberFormat;
 import lombok.EqualsAndHashCode;
-import lombok.ToString;
 import org.fmrk4sql.Value;
 
 /**
  * Fmrk4sql long value for queries.
+ * Acts as freemarker number model itself, so params give it to template without wrapping.
+ * Value is stored as primitive, so it is not boxed until {@link #val()} is called.
  * @since 0.1.0
  */
 @EqualsAndHashCode
-@ToString
-public final class LongVal implements Value<Long, Long> {
+public final class LongVal implements Value<Long, Long>, NumVal {
 
     /**
      * Stored value of fmrk4sql wrapper.
      */
-    private final Long value;
+    private final long value;
+
+    /**
+     * Value is set or null.
+     */
+    private final boolean present;
+
+    public LongVal(final long value) {
+        this(value, true);
+    }
 
     public LongVal(final Long value) {
+        this(LongVal.unboxed(value), value != null);
+    }
+
+    private LongVal(final long value, final boolean present) {
         this.value = value;
+        this.present = present;
     }
 
     @Override
     public Long val() {
-        if (this.value == null) {
-            throw new IllegalArgumentException("Value cannot be null");
-        }
-        return this.value;
+        return this.asLong();
     }
 
     @Override
     public Long convert() {
-        if (this.value == null) {
+        return this.asLong();
+    }
+
+    @Override
+    public Number getAsNumber() {
+        return this.val();
+    }
+
+    @Override
+    public String format(final NumberFormat format) {
+        return format.format(this.asLong());
+    }
+
+    @Override
+    public String toString() {
+        final String text;
+        if (this.present) {
+            text = String.valueOf(this.value);
+        } else {
+            text = "null";
+        }
+        return String.format("LongVal(value=%s)", text);
+    }
+
+    /**
+     * Stored value without boxing.
+     * @return Value
+     */
+    public long asLong() {
+        if (!this.present) {
             throw new IllegalArgumentException("Value cannot be null");
         }
         return this.value;
     }
+
+    /**
+     * Primitive of boxed value, zero for null.
+     * @param value Boxed value
+     * @return Primitive value
+     */
+    private static long unboxed(final Long value) {
+        long result = 0L;
+        if (value != null) {
+            result = value;
+        }
+        return result;
+    }
 }
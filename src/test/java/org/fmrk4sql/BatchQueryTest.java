@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.assertj.core.api.Assertions;
+import org.fmrk4sql.val.LazyVal;
+import org.fmrk4sql.val.StrVal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for BatchQuery class.
+ * @since 0.1.0
+ */
+final class BatchQueryTest {
+    /**
+     * Templates path.
+     */
+    private static final String PATH = "/ftltest";
+
+    /**
+     * Template name.
+     */
+    private static final String NAME = "parse_simple_query_table_name.sql";
+
+    @Test
+    void parsesInInputOrder() throws TemplateException, IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Params> batch = new ArrayList<>(100);
+            final List<String> expected = new ArrayList<>(100);
+            for (int idx = 0; idx < 100; idx += 1) {
+                final String table = String.format("shard_%d", idx);
+                batch.add(new FmParams(new FmParam("table_name", new StrVal(table))));
+                expected.add(String.format("select sum(plan_value) from %s", table));
+            }
+            Assertions.assertThat(
+                new BatchQuery(new FtlConfig(BatchQueryTest.PATH), BatchQueryTest.NAME, executor)
+                    .parse(batch)
+            ).containsExactlyElementsOf(expected);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parsesSameAsFtlQuery() throws TemplateException, IOException {
+        final Params params = new FmParams(new FmParam("table_name", new StrVal("batch")));
+        Assertions.assertThat(
+            new BatchQuery(BatchQueryTest.PATH, BatchQueryTest.NAME).parse(List.of(params))
+        ).containsExactly(new FtlQuery(BatchQueryTest.PATH, BatchQueryTest.NAME).parse(params));
+    }
+
+    @Test
+    void rethrowsTemplateFailure() {
+        Assertions.assertThatThrownBy(
+            () -> new BatchQuery(BatchQueryTest.PATH, BatchQueryTest.NAME).parse(
+                List.of(new FmParams(new FmParam("table_name", new StrVal("ok"))), FmParams.EMPTY)
+            )
+        ).isInstanceOf(TemplateException.class);
+    }
+
+    @Test
+    void rethrowsErrorAsIs() {
+        Assertions.assertThatThrownBy(
+            () -> new BatchQuery(BatchQueryTest.PATH, BatchQueryTest.NAME).parse(
+                List.of(
+                    new FmParams(
+                        new FmParam(
+                            "table_name",
+                            new LazyVal<String>(
+                                () -> {
+                                    throw new OutOfMemoryError("Batch is too large");
+                                }
+                            )
+                        )
+                    )
+                )
+            )
+        ).isInstanceOf(OutOfMemoryError.class);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.fmrk4sql.val.LdVal;
+import org.fmrk4sql.val.LongVal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for BeanParams class.
+ * @since 0.1.0
+ */
+final class BeanParamsTest {
+    /**
+     * Template with filter.
+     */
+    private static final String TEMPLATE = String.join(
+        "",
+        "select * from orders where client = ${client}",
+        "<#if ids?has_content> and id in (${ids?join(\", \")})</#if>"
+    );
+
+    @Test
+    void rendersRecordComponents() throws TemplateException, IOException {
+        Assertions.assertThat(
+            new StrQuery(BeanParamsTest.TEMPLATE).parse(
+                new BeanParams(new Filter(7L, List.of(1, 2), LocalDate.of(2024, 1, 1)))
+            )
+        ).isEqualTo("select * from orders where client = 7 and id in (1, 2)");
+    }
+
+    @Test
+    void listsRecordComponentsInOrder() {
+        final Params params = new BeanParams(
+            new Filter(8L, List.of(), LocalDate.of(2024, 2, 1))
+        );
+        Assertions.assertThat(params.list())
+            .extracting(Param::name, Param::value)
+            .containsExactly(
+                Assertions.tuple("client", new LongVal(8L)),
+                Assertions.tuple("ids", new FmParam("ids", List.of()).value()),
+                Assertions.tuple("since", new LdVal(LocalDate.of(2024, 2, 1)))
+            );
+    }
+
+    @Test
+    void rendersBeanProperties() throws TemplateException, IOException {
+        Assertions.assertThat(
+            new StrQuery(BeanParamsTest.TEMPLATE).parse(new BeanParams(new Bean(9L)))
+        ).isEqualTo("select * from orders where client = 9");
+    }
+
+    @Test
+    void skipsNullProperties() {
+        final Params params = new BeanParams(new Filter(10L, null, null));
+        Assertions.assertThat(params.param("ids")).isNull();
+        Assertions.assertThat(params.list()).extracting(Param::name).containsExactly("client");
+    }
+
+    @Test
+    void addsParamsInScope() {
+        Assertions.assertThat(
+            new BeanParams(new Bean(11L)).with(new FmParam("client", 12L)).param("client").value()
+        ).isEqualTo(new LongVal(12L));
+    }
+
+    /**
+     * Filter record.
+     * @param client Client id
+     * @param ids Order ids
+     * @param since Order date
+     * @since 0.1.0
+     */
+    private record Filter(Long client, List<Integer> ids, LocalDate since) {
+    }
+
+    /**
+     * Filter bean.
+     * @since 0.1.0
+     */
+    private static final class Bean {
+        /**
+         * Client id.
+         */
+        private final long client;
+
+        Bean(final long client) {
+            this.client = client;
+        }
+
+        public long getClient() {
+            return this.client;
+        }
+
+        public List<Integer> getIds() {
+            return List.of();
+        }
+    }
+}
@@ -25,6 +25,8 @@
 
 package org.fmrk4sql;
 
+import freemarker.template.TemplateBooleanModel;
+import freemarker.template.TemplateModelException;
 import org.assertj.core.api.Assertions;
 import org.fmrk4sql.val.BoolVal;
 import org.junit.jupiter.api.Test;
@@ -84,4 +86,10 @@ final class BoolValTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Value cannot be null");
     }
+
+    @Test
+    void shouldActAsBooleanModel() throws TemplateModelException {
+        final TemplateBooleanModel model = new BoolVal(true);
+        Assertions.assertThat(model.getAsBoolean()).isTrue();
+    }
 }
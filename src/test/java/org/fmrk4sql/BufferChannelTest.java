@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for BufferChannel class.
+ * @since 0.1.0
+ */
+final class BufferChannelTest {
+
+    @Test
+    void growsBuffer() throws ClosedChannelException {
+        final BufferChannel channel = new BufferChannel(2, true);
+        channel.write(ByteBuffer.wrap("select ".getBytes(StandardCharsets.UTF_8)));
+        channel.write(ByteBuffer.wrap("count()".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertThat(StandardCharsets.UTF_8.decode(channel.buffer()).toString())
+            .isEqualTo("select count()");
+    }
+
+    @Test
+    void closes() {
+        final BufferChannel channel = new BufferChannel();
+        channel.close();
+        Assertions.assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    void rejectsWriteAfterClose() {
+        final BufferChannel channel = new BufferChannel();
+        channel.close();
+        Assertions.assertThatThrownBy(
+            () -> channel.write(ByteBuffer.wrap(new byte[] {1}))
+        ).isInstanceOf(ClosedChannelException.class);
+    }
+}
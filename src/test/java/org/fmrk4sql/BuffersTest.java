@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.io.StringWriter;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for Buffers class.
+ * @since 0.1.0
+ */
+final class BuffersTest {
+
+    @Test
+    void rendersText() throws TemplateException, IOException {
+        Assertions.assertThat(
+            new Buffers(1, 1024).text(new Object(), out -> out.append("select 1"))
+        ).isEqualTo("select 1");
+    }
+
+    @Test
+    void averagesOutputSize() throws TemplateException, IOException {
+        final Buffers buffers = new Buffers(2, 1 << 16);
+        final Object key = new Object();
+        final String text = "x".repeat(9000);
+        for (int idx = 0; idx < 64; idx += 1) {
+            buffers.text(key, out -> out.append(text));
+        }
+        Assertions.assertThat(buffers.estimate(key)).isBetween(8000, 9000);
+    }
+
+    @Test
+    void reusesClearedBuilder() throws TemplateException, IOException {
+        final Buffers buffers = new Buffers(1, 1024);
+        final Object key = new Object();
+        buffers.text(key, out -> out.append("first"));
+        Assertions.assertThat(buffers.text(key, out -> out.append("second")))
+            .isEqualTo("second");
+    }
+
+    @Test
+    void writesTextToOutput() throws TemplateException, IOException {
+        final Buffers buffers = new Buffers(1, 1024);
+        final Object key = new Object();
+        final StringWriter out = new StringWriter();
+        buffers.write(key, buffer -> buffer.append("select 2"), out);
+        Assertions.assertThat(out).hasToString("select 2");
+        Assertions.assertThat(buffers.text(key, buffer -> buffer.append("select 3")))
+            .isEqualTo("select 3");
+    }
+}
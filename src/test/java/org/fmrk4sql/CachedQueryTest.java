@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for CachedQuery class.
+ * @since 0.1.0
+ */
+final class CachedQueryTest {
+    /**
+     * Template of query.
+     */
+    private static final String TEMPLATE = "select * from ${table_name}";
+
+    /**
+     * Table name param.
+     */
+    private static final String TABLE = "table_name";
+
+    /**
+     * Cache size large enough for all queries of test.
+     */
+    private static final long WEIGHT = 1024L;
+
+    @Test
+    void rendersSameParamsOnce() throws TemplateException, IOException {
+        final AtomicInteger renders = new AtomicInteger();
+        final CachedQuery query = new CachedQuery(
+            CachedQueryTest.counted(renders), CachedQueryTest.WEIGHT
+        );
+        Assertions.assertThat(
+            query.parse(new FmParams(new FmParam(CachedQueryTest.TABLE, "once")))
+        ).isEqualTo(
+            query.parse(new FmParams(new FmParam(CachedQueryTest.TABLE, "once")))
+        ).isEqualTo("select * from once");
+        Assertions.assertThat(renders.get()).isEqualTo(1);
+        final CacheStats stats = query.stats();
+        Assertions.assertThat(stats.hitCount()).isEqualTo(1L);
+        Assertions.assertThat(stats.missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void rendersDifferentParams() throws TemplateException, IOException {
+        final AtomicInteger renders = new AtomicInteger();
+        final Query query = new CachedQuery(
+            CachedQueryTest.counted(renders), CachedQueryTest.WEIGHT
+        );
+        Assertions.assertThat(
+            query.parse(new FmParams(new FmParam(CachedQueryTest.TABLE, "first")))
+        ).isNotEqualTo(
+            query.parse(new FmParams(new FmParam(CachedQueryTest.TABLE, "second")))
+        );
+        Assertions.assertThat(renders.get()).isEqualTo(2);
+    }
+
+    @Test
+    void sharesOutputOfEqualQueries() throws TemplateException, IOException {
+        final Cache<Map.Entry<Query, HashCode>, String> cache = CacheBuilder.newBuilder()
+            .recordStats()
+            .build();
+        final Params params = new FmParams(new FmParam(CachedQueryTest.TABLE, "shared"));
+        new CachedQuery(new StrQuery(CachedQueryTest.TEMPLATE), cache).parse(params);
+        new CachedQuery(new StrQuery(CachedQueryTest.TEMPLATE), cache).parse(params);
+        new CachedQuery(new FtlQuery("/ftltest", "parse_simple_query_table_name.sql"), cache)
+            .parse(params);
+        Assertions.assertThat(cache.stats().hitCount()).isEqualTo(1L);
+        Assertions.assertThat(cache.size()).isEqualTo(2L);
+    }
+
+    @Test
+    void doesNotKeepSqlLongerThanWeight() throws TemplateException, IOException {
+        final AtomicInteger renders = new AtomicInteger();
+        final Query query = new CachedQuery(CachedQueryTest.counted(renders), 8L);
+        final Params params = new FmParams(new FmParam(CachedQueryTest.TABLE, "long_table"));
+        query.parse(params);
+        query.parse(params);
+        Assertions.assertThat(renders.get()).isEqualTo(2);
+    }
+
+    @Test
+    void expiresAfterTtl() throws TemplateException, IOException {
+        final AtomicInteger renders = new AtomicInteger();
+        final AtomicLong nanos = new AtomicLong();
+        final Query query = new CachedQuery(
+            CachedQueryTest.counted(renders), CachedQueryTest.WEIGHT, Duration.ofSeconds(1L),
+            new Ticker() {
+                @Override
+                public long read() {
+                    return nanos.get();
+                }
+            }
+        );
+        final Params params = new FmParams(new FmParam(CachedQueryTest.TABLE, "expired"));
+        query.parse(params);
+        nanos.addAndGet(Duration.ofMillis(999L).toNanos());
+        query.parse(params);
+        Assertions.assertThat(renders.get()).isEqualTo(1);
+        nanos.addAndGet(Duration.ofMillis(1L).toNanos());
+        query.parse(params);
+        Assertions.assertThat(renders.get()).isEqualTo(2);
+    }
+
+    @Test
+    void rendersParamsWithoutFingerprintEveryTime() throws TemplateException, IOException {
+        final AtomicInteger renders = new AtomicInteger();
+        final Query query = new CachedQuery(
+            CachedQueryTest.counted(renders), CachedQueryTest.WEIGHT
+        );
+        final StringBuilder table = new StringBuilder("mutable");
+        final Params params = new FmParams(new FmParam(CachedQueryTest.TABLE, table));
+        Assertions.assertThat(query.parse(params)).isEqualTo("select * from mutable");
+        table.append("_changed");
+        Assertions.assertThat(query.parse(params)).isEqualTo("select * from mutable_changed");
+        Assertions.assertThat(renders.get()).isEqualTo(2);
+    }
+
+    @Test
+    void rendersAgainAfterListChange() throws TemplateException, IOException {
+        final Query query = new CachedQuery(
+            new StrQuery("select * from t where id in (${ids?join(\", \")})"),
+            CachedQueryTest.WEIGHT
+        );
+        final List<Long> ids = new ArrayList<>(List.of(1L));
+        final Params params = new FmParams(new FmParam("ids", ids));
+        Assertions.assertThat(query.parse(params)).isEqualTo("select * from t where id in (1)");
+        ids.add(2L);
+        Assertions.assertThat(query.parse(params))
+            .isEqualTo("select * from t where id in (1, 2)");
+    }
+
+    /**
+     * Query that counts renders.
+     * @param renders Counter of renders
+     * @return Query
+     */
+    private static Query counted(final AtomicInteger renders) {
+        final Query origin = new StrQuery(CachedQueryTest.TEMPLATE);
+        return params -> {
+            renders.incrementAndGet();
+            return origin.parse(params);
+        };
+    }
+}
@@ -73,5 +73,31 @@ final class CaseParamsTest {
         );
         Assertions.assertThat(params.list()).isEqualTo(expected);
     }
-}
 
+    @Test
+    void findsParamByConvertedName() {
+        final Param first = new FmParam("tableName", "first");
+        final Params params = new CaseParams(
+            new FmParams(first, new FmParam("table_name", "second")),
+            CaseFormat.LOWER_CAMEL,
+            CaseFormat.LOWER_UNDERSCORE
+        );
+        Assertions.assertThat(params.param("table_name")).isEqualTo(first);
+        Assertions.assertThat(params.param("tableName")).isNull();
+        Assertions.assertThat(params.list()).isSameAs(params.list());
+    }
+
+    @Test
+    void agreesWithListWhenNamesCollide() {
+        final Param camel = new FmParam("userId", "camel");
+        final Param snake = new FmParam("user_id", "snake");
+        for (final List<Param> origin : List.of(List.of(camel, snake), List.of(snake, camel))) {
+            final Params params = new CaseParams(
+                new FmParams(origin), CaseFormat.LOWER_CAMEL, CaseFormat.LOWER_UNDERSCORE
+            );
+            Assertions.assertThat(params.param("user_id").value())
+                .isEqualTo(params.list().iterator().next().value())
+                .isEqualTo(origin.get(0).value());
+        }
+    }
+}
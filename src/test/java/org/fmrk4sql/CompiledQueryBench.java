@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.fmrk4sql.compiled.CompiledQuery;
+import org.fmrk4sql.fake.FakeOrder;
+import org.fmrk4sql.fake.FakePageable;
+import org.fmrk4sql.val.BoolVal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of compiled renderer against freemarker interpreter.
+ * Run with main method from test classpath, it is not a part of unit tests.
+ *
+ * @since 0.1.0
+ * @checkstyle DesignForExtensionCheck (200 lines)
+ * @checkstyle ProhibitNonFinalClassesCheck (200 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({"PMD.ProhibitPublicStaticMethods", "PMD.JUnit4TestShouldUseTestAnnotation"})
+public class CompiledQueryBench {
+    /**
+     * Interpreted query.
+     */
+    private final Query ftl = new FtlQuery("/ftltest", "parse_orderable_query.sql");
+
+    /**
+     * Compiled query.
+     */
+    private final Query fast = new CompiledQuery("/ftltest", "parse_orderable_query.sql");
+
+    /**
+     * Params of query.
+     */
+    private final Params params = new PageParams(
+        new FmParams(
+            new FmParam("table_name", "orderable_table"),
+            new FmParam("plain", new BoolVal(false))
+        ),
+        new FakePageable(100L, 10, new FakeOrder("col1", "ASC"), new FakeOrder("col2", "DESC"))
+    );
+
+    @Benchmark
+    public String interpreted() throws TemplateException, IOException {
+        return this.ftl.parse(this.params);
+    }
+
+    @Benchmark
+    public String compiled() throws TemplateException, IOException {
+        return this.fast.parse(this.params);
+    }
+
+    /**
+     * Run benchmark.
+     * @param args Command line arguments
+     * @throws RunnerException When benchmark fails
+     */
+    public static void main(final String... args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder().include(CompiledQueryBench.class.getSimpleName()).build()
+        ).run();
+    }
+}
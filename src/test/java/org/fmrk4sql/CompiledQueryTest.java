@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.fmrk4sql.compiled.CompiledQuery;
+import org.fmrk4sql.fake.FakeOrder;
+import org.fmrk4sql.fake.FakePageable;
+import org.fmrk4sql.val.BoolVal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for CompiledQuery class.
+ * @since 0.1.0
+ */
+final class CompiledQueryTest {
+    /**
+     * Templates path.
+     */
+    private static final String PATH = "/ftltest";
+
+    /**
+     * Orderable template name.
+     */
+    private static final String ORDERABLE = "parse_orderable_query.sql";
+
+    @Test
+    void compilesOrderableQuery() throws IOException {
+        Assertions.assertThat(
+            new CompiledQuery(CompiledQueryTest.PATH, CompiledQueryTest.ORDERABLE).compiled()
+        ).isTrue();
+    }
+
+    @Test
+    void rendersSameAsInterpreter() throws TemplateException, IOException {
+        final Params params = new PageParams(
+            new FmParams(
+                new FmParam("table_name", "orderable_table"),
+                new FmParam("plain", new BoolVal(false))
+            ),
+            new FakePageable(
+                20_000L, 10, new FakeOrder("col1", "ASC"), new FakeOrder("col2", "DESC")
+            )
+        );
+        Assertions.assertThat(
+            new CompiledQuery(CompiledQueryTest.PATH, CompiledQueryTest.ORDERABLE).parse(params)
+        ).isEqualTo(
+            new FtlQuery(CompiledQueryTest.PATH, CompiledQueryTest.ORDERABLE).parse(params)
+        ).contains("col2 DESC");
+    }
+
+    @Test
+    void rendersElseBranch() throws TemplateException, IOException {
+        final Params params = new PageParams(
+            new FmParams(
+                new FmParam("table_name", "plain_table"),
+                new FmParam("plain", new BoolVal(true))
+            ),
+            new FakePageable(0L, 10, Orderable.NO_ORDER)
+        );
+        Assertions.assertThat(
+            new CompiledQuery(CompiledQueryTest.PATH, CompiledQueryTest.ORDERABLE).parse(params)
+        ).isEqualTo("select col1, col2 from plain_table\norder by id\nlimit 10 offset 0");
+    }
+
+    @Test
+    void rendersBooleanCondition() throws TemplateException, IOException {
+        final Query query = new CompiledQuery(
+            CompiledQueryTest.PATH, "parse_simple_query_if_boolean.sql"
+        );
+        Assertions.assertThat(query.parse(new FmParams(new FmParam("plan", new BoolVal(true)))))
+            .isEqualTo("select sum(plan_value) from table");
+        Assertions.assertThat(query.parse(new FmParams(new FmParam("plan", new BoolVal(false)))))
+            .isEqualTo("select sum(fact_value) from table");
+    }
+
+    @Test
+    void fallsBackOnUnsupportedDirective() throws TemplateException, IOException {
+        final CompiledQuery query = new CompiledQuery(
+            CompiledQueryTest.PATH, "parse_upper_table_name.sql"
+        );
+        Assertions.assertThat(query.compiled()).isFalse();
+        Assertions.assertThat(query.parse(new FmParams(new FmParam("table_name", "fmrk"))))
+            .isEqualTo("select sum(plan_value) from FMRK");
+    }
+
+    @Test
+    void compilesVariableStartingWithLoopName() throws TemplateException, IOException {
+        final Params params = new FmParams(
+            new FmParam("items", List.of("first", "second")),
+            new FmParam("item_count", "2")
+        );
+        final CompiledQuery query = new CompiledQuery(
+            CompiledQueryTest.PATH, "parse_loop_prefixed_variable.sql"
+        );
+        Assertions.assertThat(query.compiled()).isTrue();
+        Assertions.assertThat(query.parse(params))
+            .isEqualTo("select count(*) from items\nfirst 2\nsecond 2");
+    }
+
+    @Test
+    void fallsBackOnSpecialLoopVariable() throws TemplateException, IOException {
+        final CompiledQuery query = new CompiledQuery(
+            CompiledQueryTest.PATH, "parse_loop_has_next.sql"
+        );
+        Assertions.assertThat(query.compiled()).isFalse();
+        Assertions.assertThat(
+            query.parse(
+                new FmParams(
+                    new FmParam("column", "id"),
+                    new FmParam("items", List.of("1", "2"))
+                )
+            )
+        ).isEqualTo("select id from items where id in (1, 2)");
+    }
+
+    @Test
+    void fallsBackOnUnsupportedValue() {
+        final Params params = new FmParams(new FmParam("plan", "yes"));
+        final Query query = new CompiledQuery(
+            CompiledQueryTest.PATH, "parse_simple_query_if_boolean.sql"
+        );
+        Assertions.assertThatThrownBy(() -> query.parse(params))
+            .isInstanceOf(TemplateException.class);
+    }
+
+    @Test
+    void printsSameAsParse() throws TemplateException, IOException {
+        final Params params = new PageParams(
+            new FmParams(
+                new FmParam("table_name", "printed_table"),
+                new FmParam("plain", new BoolVal(true))
+            ),
+            new FakePageable(0L, 10, Orderable.NO_ORDER)
+        );
+        final Query query = new CompiledQuery(CompiledQueryTest.PATH, CompiledQueryTest.ORDERABLE);
+        final StringWriter out = new StringWriter();
+        query.print(params, out);
+        Assertions.assertThat(out.toString()).isEqualTo(query.parse(params));
+    }
+}
@@ -25,6 +25,10 @@
 
 package org.fmrk4sql;
 
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateNumberModel;
+import java.text.NumberFormat;
+import java.util.Locale;
 import org.assertj.core.api.Assertions;
 import org.fmrk4sql.val.DblVal;
 import org.junit.jupiter.api.Test;
@@ -90,4 +94,24 @@ final class DblValTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Value cannot be null");
     }
+
+    @Test
+    void shouldActAsNumberModel() throws TemplateModelException {
+        final TemplateNumberModel model = new DblVal(0.5);
+        Assertions.assertThat(model.getAsNumber()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldFormatWithoutBoxing() {
+        Assertions.assertThat(
+            new DblVal(0.25).format(NumberFormat.getNumberInstance(Locale.US))
+        ).isEqualTo("0.25");
+    }
+
+    @Test
+    void shouldPrintNullValue() {
+        final Double empty = null;
+        Assertions.assertThat(new DblVal(empty)).hasToString("DblVal(value=null)");
+        Assertions.assertThat(new DblVal(0.5)).hasToString("DblVal(value=0.5)");
+    }
 }
@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.collect.ImmutableList;
+import freemarker.template.SimpleScalar;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.fmrk4sql.fake.FakeOrder;
+import org.fmrk4sql.fake.FakePageable;
+import org.fmrk4sql.val.IntVal;
+import org.fmrk4sql.val.LazyVal;
+import org.fmrk4sql.val.LdVal;
+import org.fmrk4sql.val.LongVal;
+import org.fmrk4sql.val.NullVal;
+import org.fmrk4sql.val.StrVal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for params fingerprints.
+ * @since 0.1.0
+ */
+final class FingerprintTest {
+    /**
+     * Table name param.
+     */
+    private static final String TABLE = "table_name";
+
+    /**
+     * Ids param.
+     */
+    private static final String IDS = "ids";
+
+    /**
+     * Table name.
+     */
+    private static final String CLIENTS = "clients";
+
+    @Test
+    void sameForSameNamesAndValues() {
+        Assertions.assertThat(
+            new FmParams(
+                new FmParam(FingerprintTest.TABLE, FingerprintTest.CLIENTS),
+                new FmParam(FingerprintTest.IDS, ImmutableList.of(1, 2))
+            ).fingerprint()
+        ).isEqualTo(
+            new ScopeParams(
+                new FmParams(new FmParam(FingerprintTest.TABLE, FingerprintTest.CLIENTS)),
+                new FmParam(FingerprintTest.IDS, List.copyOf(ImmutableList.of(1, 2)))
+            ).fingerprint()
+        ).isEqualTo(
+            new MapParams(
+                Map.of(FingerprintTest.TABLE, FingerprintTest.CLIENTS)
+            ).with(new FmParam(FingerprintTest.IDS, List.of(1, 2))).fingerprint()
+        );
+    }
+
+    @Test
+    void differsForDifferentValues() {
+        Assertions.assertThat(
+            new FmParams(new FmParam(FingerprintTest.IDS, new IntVal(1))).fingerprint()
+        ).isNotEqualTo(
+            new FmParams(new FmParam(FingerprintTest.IDS, new IntVal(2))).fingerprint()
+        ).isNotEqualTo(
+            new FmParams(new FmParam(FingerprintTest.IDS, new LongVal(1L))).fingerprint()
+        ).isNotEqualTo(
+            new FmParams(new FmParam("id", new IntVal(1))).fingerprint()
+        );
+    }
+
+    @Test
+    void doesNotConfuseAdjacentTexts() {
+        Assertions.assertThat(
+            new FmParams(
+                new FmParam("a", new StrVal("bc")), new FmParam("d", new StrVal("e"))
+            ).fingerprint()
+        ).isNotEqualTo(
+            new FmParams(
+                new FmParam("a", new StrVal("b")), new FmParam("d", new StrVal("ce"))
+            ).fingerprint()
+        );
+    }
+
+    @Test
+    void hashesPageParams() {
+        final Params params = new FmParams(new FmParam(FingerprintTest.TABLE, "orders"));
+        Assertions.assertThat(
+            new PageParams(params, new FakePageable(0L, 10, new FakeOrder("id", "ASC")))
+                .fingerprint()
+        ).isEqualTo(
+            new PageParams(params, new FakePageable(0L, 10, new FakeOrder("id", "ASC")))
+                .fingerprint()
+        ).isNotEqualTo(
+            new PageParams(params, new FakePageable(0L, 10, new FakeOrder("id", "DESC")))
+                .fingerprint()
+        );
+    }
+
+    @Test
+    void hashesValuesWithoutContent() {
+        Assertions.assertThat(
+            new FmParams(
+                new FmParam("since", new LdVal(LocalDate.of(2024, 3, 1))),
+                new FmParam("filter", new NullVal()),
+                new FmParam("limit", new IntVal((Integer) null))
+            ).fingerprint()
+        ).isEqualTo(
+            new FmParams(
+                new FmParam("since", new LdVal(LocalDate.of(2024, 3, 1))),
+                new FmParam("filter", new NullVal()),
+                new FmParam("limit", new IntVal((Integer) null))
+            ).fingerprint()
+        );
+    }
+
+    @Test
+    void cachesFingerprint() {
+        final Params params = new FmParams(new FmParam(FingerprintTest.TABLE, "cached"));
+        Assertions.assertThat(params.fingerprint()).isSameAs(params.fingerprint());
+    }
+
+    @Test
+    void hasNoFingerprintForUnknownObjects() {
+        Assertions.assertThat(
+            new FmParams(
+                new FmParam(FingerprintTest.TABLE, FingerprintTest.CLIENTS),
+                new FmParam(FingerprintTest.IDS, List.of(new StringBuilder("1")))
+            ).fingerprint()
+        ).isNull();
+    }
+
+    @Test
+    void doesNotComputeLazyValues() {
+        final LazyVal<String> lazy = new LazyVal<>(() -> FingerprintTest.CLIENTS);
+        final Params params = new FmParams(new FmParam(FingerprintTest.TABLE, lazy));
+        Assertions.assertThat(params.fingerprint()).isNull();
+        Assertions.assertThat(lazy.computed()).isFalse();
+        lazy.val();
+        Assertions.assertThat(
+            new FmParams(new FmParam(FingerprintTest.TABLE, lazy)).fingerprint()
+        ).isNotNull();
+    }
+
+    @Test
+    void differsForDifferentWrappers() {
+        final List<Param> params = List.of(
+            new FmParam(FingerprintTest.TABLE, FingerprintTest.CLIENTS)
+        );
+        Assertions.assertThat(new FmParams(params).fingerprint())
+            .isNotNull()
+            .isNotEqualTo(
+                new FmParams(obj -> new SimpleScalar(String.valueOf(obj)), params).fingerprint()
+            );
+    }
+
+    @Test
+    void hasNoFingerprintForMutableObjects() {
+        Assertions.assertThat(
+            new FmParams(new FmParam(FingerprintTest.IDS, new ArrayList<>(List.of(1, 2))))
+                .fingerprint()
+        ).isNull();
+        Assertions.assertThat(
+            new FmParams(new FmParam("since", new Date(0L))).fingerprint()
+        ).isNull();
+        Assertions.assertThat(
+            new FmParams(
+                new FmParam(
+                    "orders",
+                    List.of(
+                        new Orderable() {
+                            @Override
+                            public String col() {
+                                return "id";
+                            }
+
+                            @Override
+                            public String direction() {
+                                return "ASC";
+                            }
+                        }
+                    )
+                )
+            ).fingerprint()
+        ).isNull();
+    }
+}
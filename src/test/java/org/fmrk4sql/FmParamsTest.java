@@ -25,7 +25,10 @@
 
 package org.fmrk4sql;
 
+import freemarker.template.SimpleScalar;
+import freemarker.template.TemplateModelException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import org.assertj.core.api.Assertions;
 import org.cactoos.list.ListOf;
@@ -38,6 +41,11 @@ import org.junit.jupiter.api.Test;
  * @since 0.1.0
  */
 final class FmParamsTest {
+    /**
+     * Table name param.
+     */
+    private static final String TABLE = "table_name";
+
     /**
      * Date for tests.
      */
@@ -46,13 +54,73 @@ final class FmParamsTest {
     @Test
     void fmParamsToList() {
         final Params params = new FmParams(
-            new FmParam("table_name", new StrVal("fmrk_table")),
+            new FmParam(FmParamsTest.TABLE, new StrVal("fmrk_table")),
             new FmParam("date", new LdVal(this.date))
         );
         final List<Param> expected = new ListOf(
-            new FmParam("table_name", new StrVal("fmrk_table")),
+            new FmParam(FmParamsTest.TABLE, new StrVal("fmrk_table")),
             new FmParam("date", new LdVal(this.date))
         );
         Assertions.assertThat(params.list()).isEqualTo(expected);
     }
+
+    @Test
+    void findsParamInWideParams() {
+        final List<Param> items = new ArrayList<>(200);
+        for (int idx = 0; idx < 200; idx += 1) {
+            items.add(new FmParam(String.format("filter_%d", idx), new StrVal("value")));
+        }
+        Assertions.assertThat(new FmParams(items).param("filter_199"))
+            .isEqualTo(items.get(199));
+    }
+
+    @Test
+    void findsFirstParamWithSameName() {
+        final Param first = new FmParam(FmParamsTest.TABLE, new StrVal("first"));
+        Assertions.assertThat(
+            new FmParams(first, new FmParam(FmParamsTest.TABLE, new StrVal("second")))
+                .param(FmParamsTest.TABLE)
+        ).isEqualTo(first);
+    }
+
+    @Test
+    void equalsAfterLookup() {
+        final Params params = new FmParams(new FmParam(FmParamsTest.TABLE, new StrVal("fmrk")));
+        params.param(FmParamsTest.TABLE);
+        Assertions.assertThat(params)
+            .isEqualTo(new FmParams(new FmParam(FmParamsTest.TABLE, new StrVal("fmrk"))));
+    }
+
+    @Test
+    void addsParamsInOrder() {
+        Params params = FmParams.EMPTY;
+        final List<Param> expected = new ArrayList<>(1000);
+        for (int idx = 0; idx < 1000; idx += 1) {
+            final Param param = new FmParam(String.format("p%d", idx), new StrVal("v"));
+            params = params.with(param);
+            expected.add(param);
+        }
+        Assertions.assertThat(params.list()).containsExactlyElementsOf(expected);
+        Assertions.assertThat(params).isEqualTo(new FmParams(expected));
+    }
+
+    @Test
+    void sharesParamsWithParent() {
+        final Params parent = new FmParams(new FmParam(FmParamsTest.TABLE, new StrVal("t")));
+        final Params first = parent.with(new FmParam("first", new StrVal("1")));
+        final Params second = parent.with(new FmParam("second", new StrVal("2")));
+        Assertions.assertThat(first.param("second")).isNull();
+        Assertions.assertThat(second.param("first")).isNull();
+        Assertions.assertThat(parent.list()).hasSize(1);
+        Assertions.assertThat(first.list()).hasSize(2);
+    }
+
+    @Test
+    void wrapsWithInjectedWrapper() throws TemplateModelException {
+        final Params params = new FmParams(
+            obj -> new SimpleScalar(String.format("custom %s", obj)),
+            List.of(new FmParam(FmParamsTest.TABLE, new StrVal("fmrk")))
+        ).with(new FmParam("date", new LdVal(this.date)));
+        Assertions.assertThat(params.get(FmParamsTest.TABLE)).hasToString("custom fmrk");
+    }
 }
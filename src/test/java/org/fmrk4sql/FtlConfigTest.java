@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.assertj.core.api.Assertions;
+import org.fmrk4sql.fake.FakeFtlQuery;
+import org.fmrk4sql.val.StrVal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for FtlConfig class.
+ * @since 0.1.0
+ */
+final class FtlConfigTest {
+
+    @Test
+    void sharesTemplateBetweenConfigs() throws IOException {
+        Assertions.assertThat(
+            new FtlConfig("/ftltest").template("simple_query_no_param.sql")
+        ).isSameAs(
+            new FtlConfig("/ftltest").template("simple_query_no_param.sql")
+        );
+    }
+
+    @Test
+    void parseQueryFromConfig() throws TemplateException, IOException {
+        final FtlConfig config = new FtlConfig("/ftltest");
+        final Params params = new FmParams(new FmParam("table_name", new StrVal("cfg_table")));
+        final Query query = new FtlQuery(config, "parse_simple_query_table_name.sql");
+        Assertions.assertThat(query.parse(params))
+            .isEqualTo("select sum(plan_value) from cfg_table");
+        Assertions.assertThat(query.parse(params))
+            .isEqualTo("select sum(plan_value) from cfg_table");
+    }
+
+    @Test
+    void parseFakeQueryFromConfig() throws TemplateException, IOException {
+        final Query query = new FakeFtlQuery("/ftltest", "simple_query_no_param.sql");
+        Assertions.assertThat(query.parse(FmParams.EMPTY)).isEqualTo("select count()");
+    }
+
+    @Test
+    void loadsTemplatesThroughLoaderOfClass(@TempDir final Path root) throws Exception {
+        final Path first = root.resolve("first/ftlloader");
+        final Path second = root.resolve("second/ftlloader");
+        Files.createDirectories(first);
+        Files.createDirectories(second);
+        Files.writeString(first.resolve("query.sql"), "select 1");
+        Files.writeString(second.resolve("query.sql"), "select 2");
+        final URL classes = FtlConfigTest.class.getProtectionDomain()
+            .getCodeSource().getLocation();
+        try (
+            URLClassLoader one = new URLClassLoader(
+                new URL[] {classes, root.resolve("first").toUri().toURL()},
+                ClassLoader.getPlatformClassLoader()
+            );
+            URLClassLoader two = new URLClassLoader(
+                new URL[] {classes, root.resolve("second").toUri().toURL()},
+                ClassLoader.getPlatformClassLoader()
+            )
+        ) {
+            Assertions.assertThat(
+                new FtlConfig(one.loadClass(Marker.class.getName()), "/ftlloader")
+                    .template("query.sql").toString()
+            ).isEqualTo("select 1");
+            Assertions.assertThat(
+                new FtlConfig(two.loadClass(Marker.class.getName()), "/ftlloader")
+                    .template("query.sql").toString()
+            ).isEqualTo("select 2");
+        }
+    }
+
+    /**
+     * Class loaded by separate class loaders.
+     * @since 0.1.0
+     */
+    private static final class Marker {
+    }
+}
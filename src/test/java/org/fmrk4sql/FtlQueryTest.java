@@ -26,7 +26,10 @@
 package org.fmrk4sql;
 
 import freemarker.template.TemplateException;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import org.assertj.core.api.Assertions;
 import org.fmrk4sql.val.BoolVal;
 import org.fmrk4sql.val.StrVal;
@@ -37,10 +40,14 @@ import org.junit.jupiter.api.Test;
  * @since 0.1.0
  */
 final class FtlQueryTest {
+    /**
+     * Templates path.
+     */
+    private static final String PATH = "/ftltest";
 
     @Test
     void parseSimpleQueryNoParam() throws TemplateException, IOException {
-        final Query query = new FtlQuery("/ftltest", "simple_query_no_param.sql");
+        final Query query = new FtlQuery(FtlQueryTest.PATH, "simple_query_no_param.sql");
         Assertions.assertThat(query.parse(FmParams.EMPTY)).isEqualTo("select count()");
     }
 
@@ -48,7 +55,7 @@ final class FtlQueryTest {
     void parseSimpleQueryIfBoolean() throws TemplateException, IOException {
         final Params params = new FmParams(new FmParam("plan", new BoolVal(false)));
         final Query query = new FtlQuery(
-            "/ftltest", "parse_simple_query_if_boolean.sql"
+            FtlQueryTest.PATH, "parse_simple_query_if_boolean.sql"
         );
         Assertions.assertThat(query.parse(params))
             .isEqualTo("select sum(fact_value) from table");
@@ -58,9 +65,35 @@ final class FtlQueryTest {
     void parseSimpleQueryTableName() throws TemplateException, IOException {
         final Params params = new FmParams(new FmParam("table_name", new StrVal("fmrk_table")));
         final Query query = new FtlQuery(
-            "/ftltest", "parse_simple_query_table_name.sql"
+            FtlQueryTest.PATH, "parse_simple_query_table_name.sql"
         );
         Assertions.assertThat(query.parse(params))
             .isEqualTo("select sum(plan_value) from fmrk_table");
     }
+
+    @Test
+    void printTrimmedQuery() throws TemplateException, IOException {
+        final Params params = new FmParams(new FmParam("plan", new BoolVal(true)));
+        final Query query = new FtlQuery(FtlQueryTest.PATH, "parse_simple_query_if_boolean.sql");
+        final StringWriter out = new StringWriter();
+        query.print(params, out);
+        Assertions.assertThat(out.toString()).isEqualTo(query.parse(params));
+    }
+
+    @Test
+    void printQueryToStream() throws TemplateException, IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new FtlQuery(FtlQueryTest.PATH, "simple_query_no_param.sql").print(FmParams.EMPTY, out);
+        Assertions.assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("select count()");
+    }
+
+    @Test
+    void printQueryToChannel() throws TemplateException, IOException {
+        final BufferChannel out = new BufferChannel();
+        new FtlQuery(FtlQueryTest.PATH, "parse_simple_query_table_name.sql").print(
+            new FmParams(new FmParam("table_name", new StrVal("таблица"))), out
+        );
+        Assertions.assertThat(StandardCharsets.UTF_8.decode(out.buffer()).toString())
+            .isEqualTo("select sum(plan_value) from таблица");
+    }
 }
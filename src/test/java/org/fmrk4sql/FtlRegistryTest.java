@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for FtlRegistry class.
+ * @since 0.1.0
+ */
+final class FtlRegistryTest {
+
+    @Test
+    void discoversAllTemplates() {
+        Assertions.assertThat(new FtlRegistry("/ftltest").names())
+            .contains(
+                "simple_query_no_param.sql",
+                "parse_simple_query_if_boolean.sql",
+                "parse_simple_query_table_name.sql"
+            );
+    }
+
+    @Test
+    void parseRegisteredQuery() throws TemplateException, IOException {
+        final FtlRegistry registry = new FtlRegistry("/ftltest");
+        Assertions.assertThat(registry.elapsed()).isPositive();
+        Assertions.assertThat(
+            registry.query("parse_simple_query_table_name.sql").parse(
+                new FmParams(new FmParam("table_name", "registry_table"))
+            )
+        ).isEqualTo("select sum(plan_value) from registry_table");
+    }
+
+    @Test
+    void rendersHeldTemplate() throws TemplateException, IOException {
+        final FtlRegistry registry = new FtlRegistry("/ftltest");
+        final Query query = registry.query("simple_query_no_param.sql");
+        final StringWriter out = new StringWriter();
+        query.print(FmParams.EMPTY, out);
+        Assertions.assertThat(query).isEqualTo(registry.query("simple_query_no_param.sql"));
+        Assertions.assertThat(out.toString()).isEqualTo(query.parse(FmParams.EMPTY));
+    }
+
+    @Test
+    void reportsBrokenTemplates() {
+        final FtlRegistry registry = new FtlRegistry("/ftlbroken");
+        Assertions.assertThat(registry.names()).containsExactly("valid.sql");
+        Assertions.assertThat(registry.failures()).containsOnlyKeys("invalid.sql");
+        Assertions.assertThatThrownBy(() -> registry.query("invalid.sql"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Template invalid.sql is not compiled");
+    }
+
+    @Test
+    void failsOnUnknownTemplate() {
+        Assertions.assertThatThrownBy(() -> new FtlRegistry("/ftltest").query("unknown.sql"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Template unknown.sql is not found in /ftltest");
+    }
+
+    @Test
+    void prefersBuildTimeIndex() {
+        Assertions.assertThat(new FtlRegistry("/ftlindexed").names())
+            .containsExactly("indexed.sql");
+    }
+
+    @Test
+    void mergesIndexWithNotIndexedRoots(@TempDir final Path root) throws Exception {
+        Files.createDirectories(root.resolve("ftlindexed"));
+        Files.writeString(root.resolve("ftlindexed/extra.sql"), "select 1");
+        final URL classes = FtlRegistryTest.class.getProtectionDomain()
+            .getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(
+            new URL[] {classes, root.toUri().toURL()}, ClassLoader.getPlatformClassLoader()
+        )) {
+            Assertions.assertThat(
+                new FtlRegistry(loader.loadClass(Marker.class.getName()), "/ftlindexed").names()
+            ).containsExactly("extra.sql", "indexed.sql");
+        }
+    }
+
+    /**
+     * Class loaded by class loader with additional classpath root.
+     * @since 0.1.0
+     */
+    private static final class Marker {
+    }
+}
@@ -25,6 +25,10 @@
 
 package org.fmrk4sql;
 
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateNumberModel;
+import java.text.NumberFormat;
+import java.util.Locale;
 import org.assertj.core.api.Assertions;
 import org.fmrk4sql.val.IntVal;
 import org.junit.jupiter.api.Test;
@@ -90,4 +94,31 @@ final class IntValTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Value cannot be null");
     }
+
+    @Test
+    void shouldActAsNumberModel() throws TemplateModelException {
+        final TemplateNumberModel model = new IntVal(7);
+        Assertions.assertThat(model.getAsNumber()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldFormatWithoutBoxing() {
+        Assertions.assertThat(
+            new IntVal(1_234_567).format(NumberFormat.getNumberInstance(Locale.US))
+        ).isEqualTo("1,234,567");
+    }
+
+    @Test
+    void shouldFailOnNullValue() {
+        final Integer empty = null;
+        Assertions.assertThatThrownBy(() -> new IntVal(empty).asInt())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldPrintNullValue() {
+        final Integer empty = null;
+        Assertions.assertThat(new IntVal(empty)).hasToString("IntVal(value=null)");
+        Assertions.assertThat(new IntVal(42)).hasToString("IntVal(value=42)");
+    }
 }
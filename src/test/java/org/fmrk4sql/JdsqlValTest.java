@@ -25,6 +25,7 @@
 
 package org.fmrk4sql;
 
+import freemarker.template.TemplateDateModel;
 import java.sql.Date;
 import org.assertj.core.api.Assertions;
 import org.fmrk4sql.val.JdsqlVal;
@@ -83,4 +84,10 @@ final class JdsqlValTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Value cannot be null");
     }
+
+    @Test
+    void shouldActAsDateModel() {
+        final TemplateDateModel model = new JdsqlVal(new Date(0L));
+        Assertions.assertThat(model.getDateType()).isEqualTo(TemplateDateModel.DATE);
+    }
 }
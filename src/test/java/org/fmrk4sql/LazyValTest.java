@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.fmrk4sql.val.BoolVal;
+import org.fmrk4sql.val.LazyVal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for LazyVal class.
+ * @since 0.1.0
+ */
+final class LazyValTest {
+    /**
+     * Template with param in branch.
+     */
+    private static final String TEMPLATE =
+        "select * from t<#if filtered> where id in (${ids?join(\", \")})</#if>";
+
+    @Test
+    void skipsComputationInNotTakenBranch() throws TemplateException, IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyVal<List<Integer>> ids = new LazyVal<>(
+            () -> {
+                calls.incrementAndGet();
+                return List.of(1, 2);
+            }
+        );
+        final Params params = new FmParams(new FmParam("ids", ids));
+        Assertions.assertThat(
+            new StrQuery(LazyValTest.TEMPLATE).parse(
+                params.with(new FmParam("filtered", new BoolVal(false)))
+            )
+        ).isEqualTo("select * from t");
+        Assertions.assertThat(calls.get()).isZero();
+        Assertions.assertThat(ids.computed()).isFalse();
+    }
+
+    @Test
+    void computesOnceWhenReferenced() throws TemplateException, IOException {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyVal<List<Integer>> ids = new LazyVal<>(
+            () -> {
+                calls.incrementAndGet();
+                return List.of(1, 2);
+            }
+        );
+        final Params params = new FmParams(
+            new FmParam("ids", ids), new FmParam("filtered", new BoolVal(true))
+        );
+        final Query query = new StrQuery(LazyValTest.TEMPLATE);
+        query.parse(params);
+        Assertions.assertThat(query.parse(params))
+            .isEqualTo("select * from t where id in (1, 2)");
+        Assertions.assertThat(calls.get()).isEqualTo(1);
+        Assertions.assertThat(ids.computed()).isTrue();
+        Assertions.assertThat(ids.elapsed().isNegative()).isFalse();
+    }
+
+    @Test
+    void reportsComputationTimeToMetrics() throws TemplateException, IOException {
+        final List<Duration> timer = new ArrayList<>(1);
+        final LazyVal<List<Integer>> ids = new LazyVal<>(() -> List.of(3), timer::add);
+        final Params params = new FmParams(
+            new FmParam("ids", ids), new FmParam("filtered", new BoolVal(true))
+        );
+        final Query query = new StrQuery(LazyValTest.TEMPLATE);
+        query.parse(params);
+        query.parse(params);
+        Assertions.assertThat(timer).containsExactly(ids.elapsed());
+    }
+}
@@ -25,6 +25,8 @@
 
 package org.fmrk4sql;
 
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateNumberModel;
 import org.assertj.core.api.Assertions;
 import org.fmrk4sql.val.LongVal;
 import org.junit.jupiter.api.Test;
@@ -90,4 +92,17 @@ final class LongValTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Value cannot be null");
     }
+
+    @Test
+    void shouldActAsNumberModel() throws TemplateModelException {
+        final TemplateNumberModel model = new LongVal(7L);
+        Assertions.assertThat(model.getAsNumber()).isEqualTo(7L);
+    }
+
+    @Test
+    void shouldPrintNullValue() {
+        final Long empty = null;
+        Assertions.assertThat(new LongVal(empty)).hasToString("LongVal(value=null)");
+        Assertions.assertThat(new LongVal(42L)).hasToString("LongVal(value=42)");
+    }
 }
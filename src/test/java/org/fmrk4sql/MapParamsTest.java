@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.fmrk4sql.val.IntVal;
+import org.fmrk4sql.val.StrVal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for MapParams class.
+ * @since 0.1.0
+ */
+final class MapParamsTest {
+    /**
+     * Table name param.
+     */
+    private static final String TABLE = "table_name";
+
+    @Test
+    void rendersMapEntries() throws TemplateException, IOException {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(MapParamsTest.TABLE, "map_table");
+        map.put("ids", List.of(1, 2));
+        map.put("limit", 10);
+        Assertions.assertThat(
+            new StrQuery(
+                "select * from ${table_name} where id in (${ids?join(\", \")}) limit ${limit}"
+            ).parse(new MapParams(map))
+        ).isEqualTo("select * from map_table where id in (1, 2) limit 10");
+    }
+
+    @Test
+    void givesTypedValues() {
+        final Params params = new MapParams(Map.of(MapParamsTest.TABLE, "typed", "size", 5));
+        Assertions.assertThat(params.param(MapParamsTest.TABLE).value())
+            .isEqualTo(new StrVal("typed"));
+        Assertions.assertThat(params.param("size").value()).isEqualTo(new IntVal(5));
+    }
+
+    @Test
+    void skipsNullEntries() throws Exception {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put(MapParamsTest.TABLE, "nullable_table");
+        map.put("filter", null);
+        final Params params = new MapParams(map);
+        Assertions.assertThat(params.param("filter")).isNull();
+        Assertions.assertThat(params.get("filter")).isNull();
+        Assertions.assertThat(params.list()).extracting(Param::name)
+            .containsExactly(MapParamsTest.TABLE);
+    }
+
+    @Test
+    void copiesMap() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(MapParamsTest.TABLE, "copied_table");
+        final Params params = new MapParams(map);
+        map.put(MapParamsTest.TABLE, "changed_table");
+        Assertions.assertThat(params.param(MapParamsTest.TABLE).value().val())
+            .isEqualTo("copied_table");
+    }
+}
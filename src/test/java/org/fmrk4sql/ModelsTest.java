@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.DefaultObjectWrapper;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateModelException;
+import org.assertj.core.api.Assertions;
+import org.fmrk4sql.val.IntVal;
+import org.fmrk4sql.val.StrVal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for Models class.
+ * @since 0.1.0
+ */
+final class ModelsTest {
+    /**
+     * Wrapper for tests.
+     */
+    private final ObjectWrapper wrapper = new DefaultObjectWrapper(
+        freemarker.template.Configuration.VERSION_2_3_32
+    );
+
+    @Test
+    void wrapsParamOnce() throws TemplateModelException {
+        final Models models = new Models();
+        final Param param = new FmParam("table_name", new StrVal("fmrk"));
+        Assertions.assertThat(models.model("table_name", param, this.wrapper))
+            .isSameAs(models.model("table_name", param, this.wrapper));
+    }
+
+    @Test
+    void keepsModelPerName() throws TemplateModelException {
+        final Models models = new Models();
+        models.model("first", new FmParam("first", new StrVal("1")), this.wrapper);
+        Assertions.assertThat(
+            models.model("second", new FmParam("second", new StrVal("2")), this.wrapper)
+        ).hasToString("2");
+    }
+
+    @Test
+    void givesModelValuesAsIsOnlyToDefaultWrapper() throws TemplateModelException {
+        final IntVal value = new IntVal(15);
+        Assertions.assertThat(Models.wrapped(value, Params.WRAPPER)).isSameAs(value);
+        Assertions.assertThat(Models.wrapped(value, this.wrapper)).isNotSameAs(value);
+    }
+}
@@ -25,10 +25,20 @@
 
 package org.fmrk4sql;
 
+import freemarker.template.SimpleScalar;
+import freemarker.template.TemplateModelException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.assertj.core.api.Assertions;
 import org.cactoos.list.ListOf;
+import org.fmrk4sql.fake.FakePageable;
 import org.fmrk4sql.val.IntVal;
 import org.fmrk4sql.val.LongVal;
 import org.fmrk4sql.val.StrVal;
@@ -119,4 +129,72 @@ final class PageParamsTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Pageable is not defined by Spring in pageable argument");
     }
+
+    @Test
+    void isNotEmptyWithoutReadingPageable() {
+        Assertions.assertThat(
+            new PageParams(FmParams.EMPTY, new SpringPage(Pageable.unpaged())).isEmpty()
+        ).isFalse();
+    }
+
+    @Test
+    void wrapsWithInjectedWrapper() throws TemplateModelException {
+        Assertions.assertThat(
+            new PageParams(
+                FmParams.EMPTY,
+                new FakePageable(0L, 15, Orderable.NO_ORDER),
+                obj -> new SimpleScalar(String.format("custom %s", obj))
+            ).get("size")
+        ).hasToString("custom 15");
+    }
+
+    @Test
+    void computesOrdersOnlyWhenReferenced() throws TemplateModelException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Params params = new PageParams(
+            FmParams.EMPTY,
+            new org.fmrk4sql.Pageable() {
+                @Override
+                public Long page() {
+                    return 0L;
+                }
+
+                @Override
+                public Integer size() {
+                    return 5;
+                }
+
+                @Override
+                public List<Orderable> orders() {
+                    calls.incrementAndGet();
+                    return Orderable.NO_ORDER;
+                }
+            }
+        );
+        params.get("size");
+        Assertions.assertThat(calls.get()).isZero();
+        params.get("orders");
+        params.list();
+        Assertions.assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void listsSameParamsFromManyThreads() throws Exception {
+        final Params params = new PageParams(
+            new FmParams(new FmParam("table_name7", new StrVal("shared_table"))),
+            new FakePageable(1L, 10, Orderable.NO_ORDER)
+        );
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final Collection<Callable<Integer>> tasks = new ArrayList<>(64);
+            for (int idx = 0; idx < 64; idx += 1) {
+                tasks.add(() -> params.list().size());
+            }
+            for (final Future<Integer> future : executor.invokeAll(tasks)) {
+                Assertions.assertThat(future.get()).isEqualTo(4);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -30,6 +30,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import org.assertj.core.api.Assertions;
+import org.fmrk4sql.val.BoolVal;
 import org.fmrk4sql.val.DblVal;
 import org.fmrk4sql.val.IntVal;
 import org.fmrk4sql.val.JdVal;
@@ -131,6 +132,42 @@ final class ParamTest {
             Assertions.assertThat(param.value()).isInstanceOf(IntVal.class);
         }
 
+        @Test
+        @DisplayName("Should create FmParam with primitive values")
+        void shouldCreateWithPrimitiveValues() {
+            final int size = 10;
+            final long page = 2L;
+            final double rate = 0.5;
+            Assertions.assertThat(new FmParam("size", size).value()).isEqualTo(new IntVal(10));
+            Assertions.assertThat(new FmParam("page", page).value()).isEqualTo(new LongVal(2L));
+            Assertions.assertThat(new FmParam("rate", rate).value()).isEqualTo(new DblVal(0.5));
+        }
+
+        @Test
+        @DisplayName("Should create FmParam with Boolean values")
+        void shouldCreateWithBooleanValues() {
+            final boolean plain = true;
+            Assertions.assertThat(new FmParam("plain", plain).value())
+                .isEqualTo(new BoolVal(true))
+                .isEqualTo(Values.value(Boolean.TRUE));
+            Assertions.assertThat(new FmParam("boxed", Boolean.FALSE).value())
+                .isEqualTo(new BoolVal(false));
+        }
+
+        @Test
+        @DisplayName("Should keep narrow primitives as objects")
+        void shouldKeepNarrowPrimitivesAsObjects() {
+            final char sign = 'y';
+            final short age = 7;
+            final byte flag = 1;
+            final float ratio = 0.5f;
+            Assertions.assertThat(new FmParam("sign", sign).value()).isEqualTo(new ObjVal('y'));
+            Assertions.assertThat(new FmParam("age", age).value()).isEqualTo(new ObjVal(age));
+            Assertions.assertThat(new FmParam("flag", flag).value()).isEqualTo(new ObjVal(flag));
+            Assertions.assertThat(new FmParam("ratio", ratio).value())
+                .isEqualTo(new ObjVal(ratio));
+        }
+
         @Test
         @DisplayName("Should create FmParam with Double value")
         void shouldCreateWithDoubleValue() {
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import org.assertj.core.api.Assertions;
+import org.fmrk4sql.val.IntVal;
+import org.fmrk4sql.val.StrVal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ScopeParams class.
+ * @since 0.1.0
+ */
+final class ScopeParamsTest {
+    /**
+     * Table name param.
+     */
+    private static final String TABLE = "table_name";
+
+    /**
+     * Limit param.
+     */
+    private static final String LIMIT = "limit";
+
+    /**
+     * Parent params for tests.
+     */
+    private final Params parent = new FmParams(
+        new FmParam(ScopeParamsTest.TABLE, new StrVal("parent_table")),
+        new FmParam("schema", new StrVal("public"))
+    );
+
+    @Test
+    void overridesParentParam() {
+        final Param table = new FmParam(ScopeParamsTest.TABLE, new StrVal("scope_table"));
+        final Params scope = new ScopeParams(this.parent, table);
+        Assertions.assertThat(scope.param(ScopeParamsTest.TABLE)).isEqualTo(table);
+        Assertions.assertThat(scope.param("schema")).isEqualTo(this.parent.param("schema"));
+        Assertions.assertThat(scope.list())
+            .containsExactly(this.parent.param("schema"), table);
+    }
+
+    @Test
+    void addsParamWithoutChangingParent() {
+        final Param limit = new FmParam(ScopeParamsTest.LIMIT, 10);
+        final Params scope = new ScopeParams(this.parent).with(limit);
+        Assertions.assertThat(scope.param(ScopeParamsTest.LIMIT)).isEqualTo(limit);
+        Assertions.assertThat(this.parent.param(ScopeParamsTest.LIMIT)).isNull();
+        Assertions.assertThat(scope.list()).hasSize(3);
+    }
+
+    @Test
+    void stacksScopes() throws Exception {
+        final Params scope = new ScopeParams(
+            new ScopeParams(this.parent, new FmParam(ScopeParamsTest.LIMIT, 10)),
+            new FmParam(ScopeParamsTest.LIMIT, 20)
+        );
+        Assertions.assertThat(scope.param(ScopeParamsTest.LIMIT).value()).isEqualTo(new IntVal(20));
+        Assertions.assertThat(scope.get(ScopeParamsTest.TABLE)).hasToString("parent_table");
+        Assertions.assertThat(scope.get("unknown")).isNull();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.SimpleScalar;
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import org.assertj.core.api.Assertions;
+import org.fmrk4sql.compiled.CompiledQuery;
+import org.fmrk4sql.compiled.SlotParams;
+import org.fmrk4sql.fake.FakeOrder;
+import org.fmrk4sql.fake.FakePageable;
+import org.fmrk4sql.val.BoolVal;
+import org.fmrk4sql.val.StrVal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for SlotParams class.
+ * @since 0.1.0
+ */
+final class SlotParamsTest {
+    /**
+     * Templates path.
+     */
+    private static final String PATH = "/ftltest";
+
+    /**
+     * Orderable template name.
+     */
+    private static final String ORDERABLE = "parse_orderable_query.sql";
+
+    /**
+     * Table name param.
+     */
+    private static final String TABLE = "table_name";
+
+    @Test
+    void rendersSameAsOriginParams() throws TemplateException, IOException {
+        final Params params = new PageParams(
+            new FmParams(
+                new FmParam(SlotParamsTest.TABLE, "frozen_table"),
+                new FmParam("plain", new BoolVal(false))
+            ),
+            new FakePageable(40L, 20, new FakeOrder("col1", "DESC"))
+        );
+        final CompiledQuery query = new CompiledQuery(
+            SlotParamsTest.PATH, SlotParamsTest.ORDERABLE
+        );
+        final SlotParams frozen = query.freeze(params);
+        Assertions.assertThat(query.parse(frozen))
+            .isEqualTo(query.parse(params))
+            .isEqualTo(query.parse(frozen))
+            .contains("col1 DESC");
+    }
+
+    @Test
+    void reportsMissingVariables() throws IOException {
+        Assertions.assertThat(
+            new CompiledQuery(SlotParamsTest.PATH, SlotParamsTest.ORDERABLE).freeze(
+                new FmParams(new FmParam(SlotParamsTest.TABLE, "partial_table"))
+            ).missing()
+        ).containsExactlyInAnyOrder("orders", "plain", "size", "page");
+    }
+
+    @Test
+    void readsParamsByName() throws Exception {
+        final SlotParams frozen = new CompiledQuery(
+            SlotParamsTest.PATH, SlotParamsTest.ORDERABLE
+        ).freeze(new FmParams(new FmParam("extra", new StrVal("not in template"))));
+        Assertions.assertThat(frozen.get("extra")).hasToString("not in template");
+        Assertions.assertThat(frozen.param(SlotParamsTest.TABLE)).isNull();
+    }
+
+    @Test
+    void wrapsFrozenParamsWithoutOrigin() throws Exception {
+        final SlotParams frozen = new CompiledQuery(
+            SlotParamsTest.PATH, SlotParamsTest.ORDERABLE
+        ).freeze(
+            new FmParams(new FmParam(SlotParamsTest.TABLE, "wrapped_table")),
+            obj -> new SimpleScalar(String.format("custom %s", obj))
+        );
+        Assertions.assertThat(frozen.get(SlotParamsTest.TABLE))
+            .hasToString("custom wrapped_table")
+            .isSameAs(frozen.get(SlotParamsTest.TABLE));
+    }
+
+    @Test
+    void freezesAgainWithNewParam() throws TemplateException, IOException {
+        final CompiledQuery query = new CompiledQuery(
+            SlotParamsTest.PATH, SlotParamsTest.ORDERABLE
+        );
+        final Params frozen = query.freeze(
+            new PageParams(
+                new FmParams(new FmParam(SlotParamsTest.TABLE, "added_table")),
+                new FakePageable(0L, 10, Orderable.NO_ORDER)
+            )
+        ).with(new FmParam("plain", new BoolVal(true)));
+        Assertions.assertThat(((SlotParams) frozen).missing()).isEmpty();
+        Assertions.assertThat(query.parse(frozen))
+            .isEqualTo("select col1, col2 from added_table\norder by id\nlimit 10 offset 0");
+    }
+}
@@ -25,8 +25,12 @@
 
 package org.fmrk4sql;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Collections;
 import org.assertj.core.api.Assertions;
 import org.fmrk4sql.fake.FakeOrder;
@@ -197,4 +201,26 @@ final class StrQueryTest {
                 "select col1, col2 from orderable_table order by test_col ASC limit 20 offset 0"
             );
     }
+
+    @Test
+    void parseSameTemplateOnce() throws TemplateException, IOException {
+        final Cache<String, Template> cache = CacheBuilder.newBuilder().build();
+        final String template = "select ${col} from cached_table";
+        new StrQuery(template, cache).parse(new FmParams(new FmParam("col", "foo")));
+        final Template compiled = cache.getIfPresent(template);
+        Assertions.assertThat(
+            new StrQuery(template, cache).parse(new FmParams(new FmParam("col", "bar")))
+        ).isEqualTo("select bar from cached_table");
+        Assertions.assertThat(cache.getIfPresent(template)).isSameAs(compiled);
+        Assertions.assertThat(cache.size()).isEqualTo(1L);
+    }
+
+    @Test
+    void printQueryToWriter() throws TemplateException, IOException {
+        final StringWriter out = new StringWriter();
+        new StrQuery("select ${col} from table").print(
+            new FmParams(new FmParam("col", new StrVal("printed"))), out
+        );
+        Assertions.assertThat(out.toString()).isEqualTo("select printed from table");
+    }
 }
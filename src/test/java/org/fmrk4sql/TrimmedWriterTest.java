@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for TrimmedWriter class.
+ * @since 0.1.0
+ */
+final class TrimmedWriterTest {
+
+    @Test
+    void trimsLikeString() throws IOException {
+        final String text = " \n\t select *\n  from  table \n\n ";
+        final StringWriter out = new StringWriter();
+        try (Writer writer = new TrimmedWriter(out)) {
+            for (final char chr : text.toCharArray()) {
+                writer.write(chr);
+            }
+        }
+        Assertions.assertThat(out.toString()).isEqualTo(text.trim());
+    }
+
+    @Test
+    void keepsInnerWhitespacesBetweenChunks() throws IOException {
+        final StringWriter out = new StringWriter();
+        try (Writer writer = new TrimmedWriter(out)) {
+            writer.write("\n  select  ");
+            writer.write("   ");
+            writer.write("\n from table \n", 0, 12);
+            writer.write("  ");
+        }
+        Assertions.assertThat(out.toString()).isEqualTo("select     \n from table");
+    }
+
+    @Test
+    void writesNothingForBlankText() throws IOException {
+        final StringWriter out = new StringWriter();
+        try (Writer writer = new TrimmedWriter(out)) {
+            writer.write(" \n \t ");
+        }
+        Assertions.assertThat(out.toString()).isEmpty();
+    }
+
+    @Test
+    void writesStringsLongerThanScratch() throws IOException {
+        final String column = "col, ".repeat(100);
+        final StringWriter out = new StringWriter();
+        try (Writer writer = new TrimmedWriter(out)) {
+            writer.write("  select ");
+            writer.write(column, 5, column.length() - 5);
+            writer.write("id from table  ");
+        }
+        Assertions.assertThat(out.toString())
+            .isEqualTo(String.join("", "select ", column.substring(5), "id from table"));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for Utf8Writer class.
+ * @since 0.1.0
+ */
+final class Utf8WriterTest {
+
+    @Test
+    void encodesSurrogatesSplitBetweenWrites() throws IOException {
+        final String text = "select 'таблица 😀' from t";
+        final BufferChannel channel = new BufferChannel(4, false);
+        try (Writer writer = new Utf8Writer(channel)) {
+            for (final char chr : text.toCharArray()) {
+                writer.write(chr);
+            }
+        }
+        Assertions.assertThat(Utf8WriterTest.bytes(channel.buffer()))
+            .isEqualTo(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void encodesLongText() throws IOException {
+        final String text = "ы".repeat(20_000);
+        final BufferChannel channel = new BufferChannel(16, true);
+        try (Writer writer = new Utf8Writer(channel)) {
+            writer.write(text);
+        }
+        Assertions.assertThat(Utf8WriterTest.bytes(channel.buffer()))
+            .isEqualTo(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void rejectsWritesAfterClose() throws IOException {
+        final Writer writer = new Utf8Writer(new BufferChannel());
+        try (writer) {
+            writer.write("select 1");
+        }
+        writer.close();
+        Assertions.assertThatThrownBy(() -> writer.write("select 2"))
+            .isInstanceOf(IOException.class)
+            .hasMessage("closed");
+        Assertions.assertThatThrownBy(writer::flush).isInstanceOf(IOException.class);
+    }
+
+    /**
+     * Content of buffer.
+     * @param buffer Buffer
+     * @return Bytes
+     */
+    private static byte[] bytes(final ByteBuffer buffer) {
+        final byte[] result = new byte[buffer.remaining()];
+        buffer.get(result);
+        return result;
+    }
+}
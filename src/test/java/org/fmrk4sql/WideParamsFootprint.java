@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import freemarker.template.ObjectWrapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Memory footprint of wide params against {@link FmParams}.
+ * Prints retained size of params with 10, 100 and 10 000 integer params.
+ * Run with main method from test classpath, it is not a part of unit tests,
+ * with {@code -Djdk.attach.allowAttachSelf=true} JVM option, so JOL can attach
+ * to the running JVM and read exact object layout instead of guessing it.
+ *
+ * @since 0.1.0
+ */
+public final class WideParamsFootprint {
+    /**
+     * Logger of results.
+     */
+    private static final Logger LOGGER = Logger.getLogger(
+        WideParamsFootprint.class.getName()
+    );
+
+    /**
+     * Wrapper of measured params, without state of its own.
+     * Shared {@link Params#WRAPPER} holds class introspection cache, which is large
+     * and changes between measurements, so params do not reference it directly.
+     */
+    private static final ObjectWrapper WRAPPER = obj -> Params.WRAPPER.wrap(obj);
+
+    /**
+     * Utility class.
+     */
+    private WideParamsFootprint() {
+    }
+
+    /**
+     * Print footprints.
+     * Params are measured in one layout together with their names, and layout of names
+     * alone is subtracted. Every object is counted once per layout, so only objects
+     * params add over names are measured. Layouts are not subtracted by object
+     * addresses, which garbage collector may change between two walks.
+     * @param args Command line arguments
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void main(final String... args) {
+        for (final int count : new int[] {10, 100, 10_000}) {
+            final String[] names = new String[count];
+            final Object[] values = new Object[count];
+            final List<Param> params = new ArrayList<>(count);
+            for (int idx = 0; idx < count; idx += 1) {
+                names[idx] = String.format("metric_%d", idx);
+                values[idx] = idx;
+                params.add(new FmParam(names[idx], idx));
+            }
+            final Params plain = new FmParams(WideParamsFootprint.WRAPPER, params);
+            plain.param(names[0]);
+            plain.list();
+            final Params wide = new WideParams(
+                names, values, name -> name, WideParamsFootprint.WRAPPER
+            );
+            final long shared = GraphLayout.parseInstance((Object) names).totalSize();
+            WideParamsFootprint.LOGGER.info(
+                String.format(
+                    "%6d params: FmParams %9d bytes, WideParams %9d bytes",
+                    count,
+                    GraphLayout.parseInstance(plain, names).totalSize() - shared,
+                    GraphLayout.parseInstance(wide, names).totalSize() - shared
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2024. Alexandr Sysoev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.fmrk4sql;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import freemarker.template.TemplateException;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.fmrk4sql.val.IntVal;
+import org.fmrk4sql.val.StrVal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for WideParams class.
+ * @since 0.1.0
+ */
+final class WideParamsTest {
+    /**
+     * Number of params in wide params.
+     */
+    private static final int WIDTH = 10_000;
+
+    /**
+     * Name of table param.
+     */
+    private static final String TABLE = "table_name";
+
+    @Test
+    void findsEveryOfManyParams() {
+        final String[] names = new String[WideParamsTest.WIDTH];
+        final Object[] values = new Object[WideParamsTest.WIDTH];
+        for (int idx = 0; idx < WideParamsTest.WIDTH; idx += 1) {
+            names[idx] = String.format("metric_%d", idx);
+            values[idx] = idx;
+        }
+        final Params params = new WideParams(names, values);
+        for (int idx = 0; idx < WideParamsTest.WIDTH; idx += 1) {
+            Assertions.assertThat(params.param(names[idx]).value()).isEqualTo(new IntVal(idx));
+        }
+        Assertions.assertThat(params.param("metric_x")).isNull();
+        Assertions.assertThat(params.list()).hasSize(WideParamsTest.WIDTH)
+            .first().extracting(Param::name).isEqualTo("metric_0");
+    }
+
+    @Test
+    void rendersParams() throws TemplateException, IOException {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put(WideParamsTest.TABLE, "wide_table");
+        map.put("metric_1", 1);
+        map.put("metric_2", 2L);
+        Assertions.assertThat(
+            new StrQuery("select ${metric_1} + ${metric_2} from ${table_name}")
+                .parse(new WideParams(map))
+        ).isEqualTo("select 1 + 2 from wide_table");
+    }
+
+    @Test
+    void keepsLastValueOfRepeatedName() {
+        final Params params = new WideParams(
+            new String[] {WideParamsTest.TABLE, "filter", WideParamsTest.TABLE},
+            new Object[] {"first_table", null, "last_table"}
+        );
+        Assertions.assertThat(params.list())
+            .extracting(Param::name, Param::value)
+            .containsExactly(Assertions.tuple(WideParamsTest.TABLE, new StrVal("last_table")));
+    }
+
+    @Test
+    void internsNames() {
+        final Interner<String> pool = Interners.newWeakInterner();
+        final String name = pool.intern(WideParamsTest.TABLE);
+        final Params params = new WideParams(
+            new String[] {String.join("_", "table", "name")},
+            new Object[] {"interned_table"},
+            pool
+        );
+        Assertions.assertThat(params.list().iterator().next().name()).isSameAs(name);
+    }
+
+    @Test
+    void rejectsNotParallelArrays() {
+        Assertions.assertThatThrownBy(
+            () -> new WideParams(new String[] {WideParamsTest.TABLE}, new Object[0])
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1 @@
+select col from <#if flag>broken_table
@@ -0,0 +1 @@
+select ${col} from broken_table
@@ -0,0 +1 @@
+select ${column} from items where id in (<#list items as item>${item}<#if item_has_next>, </#if></#list>)
@@ -0,0 +1,4 @@
+select count(*) from items
+<#list items as item>
+${item} ${item_count}
+</#list>
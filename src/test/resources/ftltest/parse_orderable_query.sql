@@ -0,0 +1,11 @@
+<#-- @vtlvariable name="orders" type="java.util.List" -->
+select col1, col2 from ${table_name}
+<#if orders?has_content && !plain>
+order by
+<#list orders as ord>
+${ord.col()} ${ord.direction()}
+</#list>
+<#elseif plain == true>
+order by id
+</#if>
+limit ${size} offset ${page}
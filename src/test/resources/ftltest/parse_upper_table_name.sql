@@ -0,0 +1 @@
+select sum(plan_value) from ${table_name?upper_case}